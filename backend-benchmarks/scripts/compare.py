@@ -0,0 +1,90 @@
+#!/usr/bin/env python3
+"""Compare a JMH JSON result file against a stored baseline."""
+
+import argparse
+import json
+import sys
+
+ALLOC_METRIC = "gc.alloc.rate.norm"
+
+
+def load(path):
+    with open(path, encoding="utf-8") as handle:
+        results = {}
+        for entry in json.load(handle):
+            key = entry["benchmark"]
+            if entry.get("params"):
+                key += "(" + ",".join(f"{k}={v}" for k, v in sorted(entry["params"].items())) + ")"
+            primary = entry["primaryMetric"]
+            alloc = None
+            for name, metric in entry.get("secondaryMetrics", {}).items():
+                if name.lstrip("·") == ALLOC_METRIC:
+                    alloc = metric["score"]
+            results[key] = {
+                "mode": entry["mode"],
+                "score": primary["score"],
+                "error": primary.get("scoreError") or 0.0,
+                "unit": primary["scoreUnit"],
+                "alloc": alloc,
+            }
+        return results
+
+
+def short_name(key):
+    return key.replace("com.somtranscriber.benchmarks.", "")
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__)
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="percent slowdown or extra allocation treated as a regression (default 10)")
+    parser.add_argument("--no-fail", action="store_true", help="always exit 0")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+    regressions = []
+
+    header = f"{'benchmark':<58} {'baseline':>12} {'current':>12} {'delta':>8} {'B/op base':>10} {'B/op now':>10}"
+    print(header)
+    print("-" * len(header))
+    for key in sorted(set(baseline) | set(current)):
+        if key not in baseline or key not in current:
+            print(f"{short_name(key):<58} {'only in ' + ('current' if key in current else 'baseline'):>25}")
+            continue
+
+        base, now = baseline[key], current[key]
+        lower_is_better = base["mode"] in ("avgt", "sample", "ss")
+        delta = (now["score"] - base["score"]) / base["score"] * 100.0 if base["score"] else 0.0
+        worse = delta if lower_is_better else -delta
+        noise = base["error"] + now["error"]
+        flag = ""
+        if worse > args.threshold and abs(now["score"] - base["score"]) > noise:
+            flag = " REGRESSION"
+            regressions.append(key)
+
+        base_alloc = "-" if base["alloc"] is None else f"{base['alloc']:.0f}"
+        now_alloc = "-" if now["alloc"] is None else f"{now['alloc']:.0f}"
+        if base["alloc"] is not None and now["alloc"] is not None:
+            extra = now["alloc"] - base["alloc"]
+            if extra > 16 and extra > base["alloc"] * args.threshold / 100.0:
+                flag += " ALLOC"
+                if key not in regressions:
+                    regressions.append(key)
+
+        print(f"{short_name(key):<58} {base['score']:>12.2f} {now['score']:>12.2f} {delta:>+7.1f}% "
+              f"{base_alloc:>10} {now_alloc:>10}{flag}  {now['unit']}")
+
+    if regressions:
+        print(f"\n{len(regressions)} regression(s) beyond {args.threshold:.0f}%:")
+        for key in regressions:
+            print(f"  {short_name(key)}")
+        if not args.no_fail:
+            return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,26 @@
+package com.somtranscriber.benchmarks;
+
+final class BenchmarkTexts {
+
+    static final String TRANSCRIPT = """
+            Hello, this is the community health worker calling about the patient who was discharged on Monday. \
+            She says the cough is better but she still has a fever at night and has not been able to pick up the \
+            antibiotics because the pharmacy near the market was closed. Her son will go tomorrow morning. She asked \
+            whether she should keep taking the paracetamol every six hours and I told her to follow what the doctor \
+            wrote on the discharge paper. She also asked for a ride to the clinic on Thursday because the bus does not \
+            stop near her house anymore. I said I would call the clinic and ask if transport is available. The baby is \
+            eating well and the vaccination card is up to date. She will call back if the fever gets worse or if she \
+            has trouble breathing. I reminded her to drink plenty of water and rest. We agreed I will follow up by \
+            phone on Wednesday afternoon.""";
+
+    static final String NOTE = """
+            Follow-up call with patient discharged Monday. Cough improving; night fevers continue. Antibiotics not \
+            yet collected because the nearby pharmacy was closed; son will collect tomorrow morning. Advised to take \
+            paracetamol as written on the discharge instructions. Patient requests transport to the clinic on \
+            Thursday; worker will ask the clinic whether transport is available. Infant feeding well, vaccinations up \
+            to date. Patient will call back if fever worsens or breathing becomes difficult. Reminded to hydrate and \
+            rest. Next follow-up by phone Wednesday afternoon.""";
+
+    private BenchmarkTexts() {
+    }
+}
@@ -0,0 +1,66 @@
+package com.somtranscriber.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.somtranscriber.calls.dto.CallResponse;
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.calls.model.CallStatus;
+import com.somtranscriber.calls.model.NoteSource;
+import com.somtranscriber.calls.service.CallMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CallSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CallRecordEntity call;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        call = new CallRecordEntity();
+        call.setId(UUID.randomUUID());
+        call.setUserId(UUID.randomUUID());
+        call.setCallAt(Instant.now());
+        call.setStatus(CallStatus.FINALIZED);
+        call.setTranscriptEnglish(BenchmarkTexts.TRANSCRIPT);
+        call.setNoteText(BenchmarkTexts.NOTE);
+        call.setFinalText(BenchmarkTexts.NOTE);
+        call.setNoteSource(NoteSource.FORMATTER);
+        call.setFinalizedAt(Instant.now());
+        call.setCreatedAt(Instant.now());
+        call.setUpdatedAt(Instant.now());
+    }
+
+    @Benchmark
+    public CallResponse toResponse() {
+        return CallMapper.toResponse(call);
+    }
+
+    @Benchmark
+    public byte[] toResponseJson() throws Exception {
+        return objectMapper.writeValueAsBytes(CallMapper.toResponse(call));
+    }
+}
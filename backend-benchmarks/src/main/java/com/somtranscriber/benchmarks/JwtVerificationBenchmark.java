@@ -0,0 +1,82 @@
+package com.somtranscriber.benchmarks;
+
+import com.somtranscriber.auth.model.UserEntity;
+import com.somtranscriber.auth.model.UserRole;
+import com.somtranscriber.common.security.JwtService;
+import com.somtranscriber.config.AppProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark";
+
+    private JwtService jwtService;
+    private SecretKey secretKey;
+    private UserEntity user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        AppProperties properties = new AppProperties(
+                new AppProperties.Jwt("somtranscriber", 15, 30, SECRET, 10_000),
+                new AppProperties.Audio("/tmp/audio", 120),
+                new AppProperties.OpenAi("", "gpt-4o-transcribe", "gpt-4o-mini", "https://api.openai.com"),
+                new AppProperties.Ollama("", "qwen2.5:3b"),
+                new AppProperties.Retry("queue", 3, false, new AppProperties.Retry.Worker(false, 2000, 5)),
+                new AppProperties.Cors(List.of())
+        );
+        jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setEmail("worker@example.com");
+        user.setRole(UserRole.WORKER);
+        token = jwtService.generateAccessToken(user).token();
+    }
+
+    @Benchmark
+    public Claims parserBuiltPerRequest() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public JwtService.ParsedToken reusedParser() {
+        return jwtService.parse(token);
+    }
+
+    @Benchmark
+    public JwtService.TokenData generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public JwtService.ParsedToken cachedVerification() {
+        return jwtService.verifyAccessToken(token);
+    }
+}
@@ -0,0 +1,59 @@
+package com.somtranscriber.benchmarks;
+
+import com.somtranscriber.processing.service.FaithfulnessChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NoteFaithfulnessBenchmark {
+
+    private final String transcript = BenchmarkTexts.TRANSCRIPT;
+    private final String faithfulNote = BenchmarkTexts.NOTE;
+    private final String embellishedNote = BenchmarkTexts.NOTE + " Added to the agenda for the stakeholder meeting.";
+    private final FaithfulnessChecker checker = new FaithfulnessChecker(FaithfulnessChecker.DEFAULT_TERMS);
+    private final FaithfulnessChecker largeChecker = new FaithfulnessChecker(largeTermList());
+
+    @Benchmark
+    public boolean faithfulNote() {
+        return checker.looksUnfaithful(transcript, faithfulNote);
+    }
+
+    @Benchmark
+    public boolean faithfulNoteLargeTermList() {
+        return largeChecker.looksUnfaithful(transcript, faithfulNote);
+    }
+
+    @Benchmark
+    public boolean embellishedNote() {
+        return checker.looksUnfaithful(transcript, embellishedNote);
+    }
+
+    @Benchmark
+    public int wordCount() {
+        return FaithfulnessChecker.wordCount(transcript);
+    }
+
+    private static List<String> largeTermList() {
+        List<String> terms = new ArrayList<>(FaithfulnessChecker.DEFAULT_TERMS);
+        for (int i = 0; i < 500; i++) {
+            terms.add("invented term " + i);
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,179 @@
+package com.somtranscriber.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.config.CircuitBreakerProperties;
+import com.somtranscriber.config.HedgingProperties;
+import com.somtranscriber.config.ProviderEndpointsProperties;
+import com.somtranscriber.config.ProviderRateLimitProperties;
+import com.somtranscriber.processing.adapter.OllamaFormatterAdapter;
+import com.somtranscriber.processing.adapter.OpenAiTranscriptionAdapter;
+import com.somtranscriber.processing.adapter.OpenAiTranslationAdapter;
+import com.somtranscriber.processing.adapter.ProviderCircuitBreakers;
+import com.somtranscriber.processing.adapter.ProviderEndpoints;
+import com.somtranscriber.processing.adapter.ProviderHedging;
+import com.somtranscriber.processing.adapter.ProviderRateLimiters;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.TranscriptionResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.maxIdleConnections=4096")
+@State(Scope.Benchmark)
+public class PipelineConcurrencyBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"200", "1000"})
+    public int inFlight;
+
+    @Param({"20"})
+    public int providerLatencyMs;
+
+    private HttpServer provider;
+    private ExecutorService callExecutor;
+    private HttpClient httpClient;
+    private Path audio;
+    private OpenAiTranscriptionAdapter transcription;
+    private OpenAiTranslationAdapter translation;
+    private OllamaFormatterAdapter formatter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        provider = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        provider.setExecutor(Executors.newCachedThreadPool());
+        provider.createContext("/v1/audio/transcriptions",
+                exchange -> respond(exchange, "{\"text\":\"Wicitaankii waxa uu ka socday xafiiska\",\"language\":\"so\"}"));
+        provider.createContext("/v1/chat/completions",
+                exchange -> respond(exchange, "{\"choices\":[{\"message\":{\"content\":\"The caller asked about the office.\"}}]}"));
+        provider.createContext("/api/generate",
+                exchange -> respond(exchange, "{\"response\":\"Caller asked about the office.\"}"));
+        provider.start();
+
+        String baseUrl = "http://127.0.0.1:" + provider.getAddress().getPort();
+        AppProperties properties = new AppProperties(
+                new AppProperties.Jwt("somtranscriber", 15, 30, "benchmark-secret-benchmark-secret-benchmark", 10_000),
+                new AppProperties.Audio("/tmp/audio", 120),
+                new AppProperties.OpenAi("benchmark-key", "gpt-4o-transcribe", "gpt-4o-mini", baseUrl),
+                new AppProperties.Ollama(baseUrl, "qwen2.5:3b"),
+                new AppProperties.Retry("queue", 3, false, new AppProperties.Retry.Worker(false, 2000, 5)),
+                new AppProperties.Cors(List.of())
+        );
+
+        RestClient.Builder builder = RestClient.builder();
+        if ("virtual".equals(threading)) {
+            httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+            builder.requestFactory(new JdkClientHttpRequestFactory(httpClient));
+            callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            callExecutor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        ProviderHedging hedging = new ProviderHedging(
+                new HedgingProperties(false, 0, null, 0, 0, 0, 0),
+                new SimpleMeterRegistry()
+        );
+        ProviderCircuitBreakers circuitBreakers = new ProviderCircuitBreakers(
+                new CircuitBreakerProperties(false, 0, 0, 0, null, 0),
+                new SimpleMeterRegistry()
+        );
+        ProviderEndpoints providerEndpoints = new ProviderEndpoints(
+                properties,
+                new ProviderEndpointsProperties(null, null, null, 0, null),
+                new SimpleMeterRegistry()
+        );
+        ProviderRateLimiters rateLimiters = new ProviderRateLimiters(
+                new StringRedisTemplate(),
+                new ProviderRateLimitProperties(false, null, null, null, null, null),
+                new SimpleMeterRegistry()
+        );
+        transcription = new OpenAiTranscriptionAdapter(builder, objectMapper, properties, hedging, circuitBreakers, providerEndpoints, rateLimiters);
+        translation = new OpenAiTranslationAdapter(builder, objectMapper, properties, hedging, circuitBreakers, providerEndpoints, rateLimiters);
+        formatter = new OllamaFormatterAdapter(builder, objectMapper, properties, circuitBreakers, providerEndpoints);
+
+        audio = Files.createTempFile("pipeline-benchmark", ".wav");
+        Files.write(audio, new byte[32_000]);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        callExecutor.shutdownNow();
+        provider.stop(0);
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        Files.deleteIfExists(audio);
+    }
+
+    @Benchmark
+    public void pipelineCalls(Blackhole blackhole) throws Exception {
+        List<Future<String>> calls = new ArrayList<>(inFlight);
+        for (int i = 0; i < inFlight; i++) {
+            calls.add(callExecutor.submit(this::pipeline));
+        }
+        for (Future<String> call : calls) {
+            blackhole.consume(call.get());
+        }
+    }
+
+    private String pipeline() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(80));
+        TranscriptionResult transcript = transcription.transcribe(audio, "audio/wav", deadline);
+        String english = translation.translateToEnglish(transcript.englishText(), transcript.detectedLanguage(), deadline);
+        return formatter.format(english, deadline);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            Thread.sleep(providerLatencyMs);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
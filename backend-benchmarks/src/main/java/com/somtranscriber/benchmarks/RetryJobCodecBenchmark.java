@@ -0,0 +1,56 @@
+package com.somtranscriber.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.somtranscriber.processing.model.JobStage;
+import com.somtranscriber.processing.service.RetryJob;
+import com.somtranscriber.processing.service.RetryJobCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RetryJobCodecBenchmark {
+
+    private RetryJobCodec codec;
+    private RetryJob job;
+    private String payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        codec = new RetryJobCodec(new ObjectMapper().registerModule(new JavaTimeModule()));
+        job = new RetryJob(UUID.randomUUID(), JobStage.FORMATTER, 2, Instant.now());
+        payload = codec.encode(job);
+    }
+
+    @Benchmark
+    public String encode() throws Exception {
+        return codec.encode(job);
+    }
+
+    @Benchmark
+    public RetryJob decode() throws Exception {
+        return codec.decode(payload);
+    }
+
+    @Benchmark
+    public RetryJob roundTrip() throws Exception {
+        return codec.decode(codec.encode(job));
+    }
+}
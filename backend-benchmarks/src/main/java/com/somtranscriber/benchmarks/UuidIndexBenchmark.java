@@ -0,0 +1,94 @@
+package com.somtranscriber.benchmarks;
+
+import com.somtranscriber.common.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidIndexBenchmark {
+
+    @Param({"v4", "v7"})
+    public String keyType;
+
+    @Param({"500"})
+    public int batchSize;
+
+    private Connection connection;
+    private String table;
+    private long rowsInserted;
+
+    @Setup(Level.Trial)
+    public void createTable() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5432/somtranscriber"),
+                System.getProperty("bench.db.username", "somtranscriber"),
+                System.getProperty("bench.db.password", "somtranscriber")
+        );
+        connection.setAutoCommit(false);
+        table = "bench_uuid_keys_" + keyType;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, created_at TIMESTAMPTZ NOT NULL DEFAULT now())");
+        }
+        connection.commit();
+        rowsInserted = 0;
+    }
+
+    @Benchmark
+    public void insertBatch() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + table + " (id) VALUES (?)")) {
+            for (int i = 0; i < batchSize; i++) {
+                statement.setObject(1, nextKey());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        rowsInserted += batchSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void reportIndexSize() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            resultSet.next();
+            long indexBytes = resultSet.getLong(1);
+            System.out.printf("%n[%s] rows=%d pkey index=%d bytes (%.1f bytes/row)%n",
+                    keyType, rowsInserted, indexBytes, rowsInserted == 0 ? 0.0 : (double) indexBytes / rowsInserted);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    private UUID nextKey() {
+        return "v7".equals(keyType) ? UuidV7.next() : UUID.randomUUID();
+    }
+}
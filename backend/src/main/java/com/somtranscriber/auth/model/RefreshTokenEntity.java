@@ -1,5 +1,6 @@
 package com.somtranscriber.auth.model;
 
+import com.somtranscriber.common.db.UuidV7Id;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -10,7 +11,7 @@ import java.util.UUID;
 public class RefreshTokenEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(name = "token_id", nullable = false, unique = true)
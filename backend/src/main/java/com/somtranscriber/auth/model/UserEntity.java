@@ -1,5 +1,7 @@
 package com.somtranscriber.auth.model;
 
+import com.somtranscriber.auth.service.UserCacheInvalidator;
+import com.somtranscriber.common.db.UuidV7Id;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -7,10 +9,11 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidator.class)
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(nullable = false, unique = true)
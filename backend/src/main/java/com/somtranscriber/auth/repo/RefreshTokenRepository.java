@@ -2,6 +2,9 @@ package com.somtranscriber.auth.repo;
 
 import com.somtranscriber.auth.model.RefreshTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
@@ -12,4 +15,18 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity
     Optional<RefreshTokenEntity> findByTokenId(String tokenId);
 
     List<RefreshTokenEntity> findByUserIdAndRevokedAtIsNullAndExpiresAtAfter(UUID userId, Instant now);
+
+    @Modifying
+    @Query("""
+            update RefreshTokenEntity t set t.revokedAt = :now
+            where t.tokenId = :tokenId
+              and t.tokenHash = :tokenHash
+              and t.userId = :userId
+              and t.revokedAt is null
+              and t.expiresAt > :now
+            """)
+    int revokeIfActive(@Param("tokenId") String tokenId,
+                       @Param("tokenHash") String tokenHash,
+                       @Param("userId") UUID userId,
+                       @Param("now") Instant now);
 }
@@ -0,0 +1,68 @@
+package com.somtranscriber.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.somtranscriber.auth.model.UserEntity;
+import com.somtranscriber.auth.model.UserStatus;
+import com.somtranscriber.common.security.AuthenticatedUser;
+import com.somtranscriber.config.AuthProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+public class ActiveUserCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ActiveUserCache.class);
+    private static final AuthenticatedUser INACTIVE = new AuthenticatedUser(null, null, null);
+
+    private final AuthProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<UUID, AuthenticatedUser> users;
+
+    public ActiveUserCache(AuthProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(properties.userCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "auth.users");
+    }
+
+    public Optional<AuthenticatedUser> findActive(UUID userId, Supplier<Optional<UserEntity>> loader) {
+        AuthenticatedUser user = users.get(userId, id -> loader.get()
+                .filter(entity -> entity.getStatus() == UserStatus.ACTIVE)
+                .map(ActiveUserCache::principal)
+                .orElse(INACTIVE));
+        return user == INACTIVE ? Optional.empty() : Optional.of(user);
+    }
+
+    public void invalidate(UUID userId) {
+        evictLocal(userId);
+        if (!properties.userCacheRedisInvalidation()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(properties.userCacheInvalidationChannel(), userId.toString());
+        } catch (RuntimeException exception) {
+            log.warn("Unable to publish cache invalidation for user {}", userId, exception);
+        }
+    }
+
+    public void evictLocal(UUID userId) {
+        users.invalidate(userId);
+    }
+
+    private static AuthenticatedUser principal(UserEntity user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+    }
+}
@@ -3,20 +3,19 @@ package com.somtranscriber.auth.service;
 import com.somtranscriber.auth.dto.*;
 import com.somtranscriber.auth.model.*;
 import com.somtranscriber.auth.repo.InviteRepository;
-import com.somtranscriber.auth.repo.RefreshTokenRepository;
 import com.somtranscriber.auth.repo.UserRepository;
 import com.somtranscriber.common.exception.BadRequestException;
 import com.somtranscriber.common.exception.UnauthorizedException;
 import com.somtranscriber.common.security.AuthenticatedUser;
 import com.somtranscriber.common.security.JwtService;
 import com.somtranscriber.common.util.Hashing;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -24,80 +23,64 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final InviteRepository inviteRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ActiveUserCache activeUserCache;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(UserRepository userRepository,
                        InviteRepository inviteRepository,
-                       RefreshTokenRepository refreshTokenRepository,
-                       PasswordEncoder passwordEncoder,
-                       JwtService jwtService) {
+                       RefreshTokenStore refreshTokenStore,
+                       ActiveUserCache activeUserCache,
+                       PasswordHasher passwordHasher,
+                       JwtService jwtService,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.inviteRepository = inviteRepository;
-        this.refreshTokenRepository = refreshTokenRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.refreshTokenStore = refreshTokenStore;
+        this.activeUserCache = activeUserCache;
+        this.passwordHasher = passwordHasher;
         this.jwtService = jwtService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
     public TokenResponse login(LoginRequest request) {
         UserEntity user = userRepository.findByEmail(request.username().trim().toLowerCase())
                 .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
 
-        if (user.getStatus() != UserStatus.ACTIVE || !passwordEncoder.matches(request.pin(), user.getPasswordHash())) {
+        if (user.getStatus() != UserStatus.ACTIVE || !passwordHasher.matches(request.pin(), user.getPasswordHash())) {
             throw new UnauthorizedException("Invalid credentials");
         }
 
         return issueTokenPair(user);
     }
 
-    @Transactional
     public TokenResponse refresh(RefreshRequest request) {
         JwtService.ParsedToken parsed = jwtService.parse(request.refreshToken());
         if (!"refresh".equals(parsed.tokenType())) {
             throw new UnauthorizedException("Expected refresh token");
         }
 
-        RefreshTokenEntity tokenEntity = refreshTokenRepository.findByTokenId(parsed.tokenId())
-                .orElseThrow(() -> new UnauthorizedException("Refresh token not found"));
+        AuthenticatedUser user = activeUserCache.findActive(parsed.userId(), () -> userRepository.findById(parsed.userId()))
+                .orElseThrow(() -> new UnauthorizedException("User is not active"));
 
-        if (tokenEntity.getRevokedAt() != null
-                || tokenEntity.getExpiresAt().isBefore(Instant.now())
-                || !tokenEntity.getTokenHash().equals(Hashing.sha256Hex(request.refreshToken()))) {
+        JwtService.TokenData accessToken = jwtService.generateAccessToken(user);
+        JwtService.TokenData refreshToken = jwtService.generateRefreshToken(user);
+        if (!refreshTokenStore.rotate(parsed, request.refreshToken(), refreshToken)) {
             throw new UnauthorizedException("Refresh token invalid");
         }
 
-        if (!tokenEntity.getUserId().equals(parsed.userId())) {
-            throw new UnauthorizedException("Refresh token owner mismatch");
-        }
-
-        tokenEntity.setRevokedAt(Instant.now());
-        refreshTokenRepository.save(tokenEntity);
-
-        UserEntity user = userRepository.findById(parsed.userId())
-                .orElseThrow(() -> new UnauthorizedException("User not found"));
-        if (user.getStatus() != UserStatus.ACTIVE) {
-            throw new UnauthorizedException("User is not active");
-        }
-
-        return issueTokenPair(user);
+        return tokenResponse(accessToken, refreshToken);
     }
 
-    @Transactional
     public void logout(LogoutRequest request) {
         JwtService.ParsedToken parsed = jwtService.parse(request.refreshToken());
         if (!"refresh".equals(parsed.tokenType())) {
             throw new UnauthorizedException("Expected refresh token");
         }
 
-        Optional<RefreshTokenEntity> token = refreshTokenRepository.findByTokenId(parsed.tokenId());
-        token.ifPresent(entity -> {
-            if (entity.getRevokedAt() == null && entity.getTokenHash().equals(Hashing.sha256Hex(request.refreshToken()))) {
-                entity.setRevokedAt(Instant.now());
-                refreshTokenRepository.save(entity);
-            }
-        });
+        refreshTokenStore.revoke(parsed, request.refreshToken());
     }
 
     @Transactional
@@ -118,9 +101,30 @@ public class AuthService {
         return new CreateInviteResponse(saved.getId(), token, saved.getExpiresAt());
     }
 
-    @Transactional
     public TokenResponse acceptInvite(AcceptInviteRequest request) {
-        InviteEntity invite = inviteRepository.findByTokenHash(Hashing.sha256Hex(request.inviteToken()))
+        String tokenHash = Hashing.sha256Hex(request.inviteToken());
+        validateInvite(tokenHash);
+        String passwordHash = passwordHasher.encode(request.pin());
+
+        return transactionTemplate.execute(status -> {
+            InviteEntity invite = validateInvite(tokenHash);
+
+            UserEntity user = new UserEntity();
+            user.setEmail(invite.getEmail());
+            user.setPasswordHash(passwordHash);
+            user.setRole(UserRole.WORKER);
+            user.setStatus(UserStatus.ACTIVE);
+
+            UserEntity savedUser = userRepository.save(user);
+            invite.setAcceptedAt(Instant.now());
+            inviteRepository.save(invite);
+
+            return issueTokenPair(savedUser);
+        });
+    }
+
+    private InviteEntity validateInvite(String tokenHash) {
+        InviteEntity invite = inviteRepository.findByTokenHash(tokenHash)
                 .orElseThrow(() -> new BadRequestException("Invalid invite token"));
 
         if (invite.getAcceptedAt() != null) {
@@ -133,31 +137,17 @@ public class AuthService {
         userRepository.findByEmail(invite.getEmail()).ifPresent(existing -> {
             throw new BadRequestException("User already exists for this email");
         });
-
-        UserEntity user = new UserEntity();
-        user.setEmail(invite.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(request.pin()));
-        user.setRole(UserRole.WORKER);
-        user.setStatus(UserStatus.ACTIVE);
-
-        UserEntity savedUser = userRepository.save(user);
-        invite.setAcceptedAt(Instant.now());
-        inviteRepository.save(invite);
-
-        return issueTokenPair(savedUser);
+        return invite;
     }
 
     private TokenResponse issueTokenPair(UserEntity user) {
         JwtService.TokenData accessToken = jwtService.generateAccessToken(user);
         JwtService.TokenData refreshToken = jwtService.generateRefreshToken(user);
+        refreshTokenStore.store(refreshToken, user.getId());
+        return tokenResponse(accessToken, refreshToken);
+    }
 
-        RefreshTokenEntity tokenEntity = new RefreshTokenEntity();
-        tokenEntity.setTokenId(refreshToken.tokenId());
-        tokenEntity.setTokenHash(Hashing.sha256Hex(refreshToken.token()));
-        tokenEntity.setUserId(user.getId());
-        tokenEntity.setExpiresAt(refreshToken.expiresAt());
-        refreshTokenRepository.save(tokenEntity);
-
+    private TokenResponse tokenResponse(JwtService.TokenData accessToken, JwtService.TokenData refreshToken) {
         return new TokenResponse(
                 accessToken.token(),
                 accessToken.expiresAt(),
@@ -0,0 +1,55 @@
+package com.somtranscriber.auth.service;
+
+import com.somtranscriber.auth.model.RefreshTokenEntity;
+import com.somtranscriber.auth.repo.RefreshTokenRepository;
+import com.somtranscriber.common.security.JwtService;
+import com.somtranscriber.common.util.Hashing;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(value = "app.auth.refresh-token-store", havingValue = "database", matchIfMissing = true)
+public class DatabaseRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    public DatabaseRefreshTokenStore(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    @Override
+    public void store(JwtService.TokenData token, UUID userId) {
+        RefreshTokenEntity tokenEntity = new RefreshTokenEntity();
+        tokenEntity.setTokenId(token.tokenId());
+        tokenEntity.setTokenHash(Hashing.sha256Hex(token.token()));
+        tokenEntity.setUserId(userId);
+        tokenEntity.setExpiresAt(token.expiresAt());
+        refreshTokenRepository.save(tokenEntity);
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(JwtService.ParsedToken consumed, String consumedToken, JwtService.TokenData replacement) {
+        int revoked = refreshTokenRepository.revokeIfActive(
+                consumed.tokenId(),
+                Hashing.sha256Hex(consumedToken),
+                consumed.userId(),
+                Instant.now()
+        );
+        if (revoked == 0) {
+            return false;
+        }
+        store(replacement, consumed.userId());
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void revoke(JwtService.ParsedToken token, String rawToken) {
+        refreshTokenRepository.revokeIfActive(token.tokenId(), Hashing.sha256Hex(rawToken), token.userId(), Instant.now());
+    }
+}
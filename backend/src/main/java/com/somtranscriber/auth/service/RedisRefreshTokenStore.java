@@ -0,0 +1,72 @@
+package com.somtranscriber.auth.service;
+
+import com.somtranscriber.common.security.JwtService;
+import com.somtranscriber.common.util.Hashing;
+import com.somtranscriber.config.AuthProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(value = "app.auth.refresh-token-store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final RedisScript<Long> CONSUME = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            if KEYS[2] then
+                redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate, AuthProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = properties.refreshTokenKeyPrefix();
+    }
+
+    @Override
+    public void store(JwtService.TokenData token, UUID userId) {
+        Duration ttl = Duration.between(Instant.now(), token.expiresAt());
+        if (ttl.isPositive()) {
+            redisTemplate.opsForValue().set(key(token.tokenId()), Hashing.sha256Hex(token.token()), ttl);
+        }
+    }
+
+    @Override
+    public boolean rotate(JwtService.ParsedToken consumed, String consumedToken, JwtService.TokenData replacement) {
+        long ttlMillis = Duration.between(Instant.now(), replacement.expiresAt()).toMillis();
+        if (ttlMillis <= 0) {
+            return false;
+        }
+        Long consumedCount = redisTemplate.execute(
+                CONSUME,
+                List.of(key(consumed.tokenId()), key(replacement.tokenId())),
+                Hashing.sha256Hex(consumedToken),
+                Hashing.sha256Hex(replacement.token()),
+                Long.toString(ttlMillis)
+        );
+        return consumedCount != null && consumedCount == 1L;
+    }
+
+    @Override
+    public void revoke(JwtService.ParsedToken token, String rawToken) {
+        redisTemplate.execute(CONSUME, List.of(key(token.tokenId())), Hashing.sha256Hex(rawToken));
+    }
+
+    private String key(String tokenId) {
+        return keyPrefix + tokenId;
+    }
+}
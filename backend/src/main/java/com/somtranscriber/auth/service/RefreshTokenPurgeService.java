@@ -0,0 +1,77 @@
+package com.somtranscriber.auth.service;
+
+import com.somtranscriber.common.db.ClusterLock;
+import com.somtranscriber.config.RefreshTokenPurgeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Service
+@ConditionalOnProperty(value = "app.auth.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeService.class);
+    private static final String DELETE_CHUNK = """
+            DELETE FROM refresh_tokens
+            WHERE id IN (
+                SELECT id FROM refresh_tokens
+                WHERE expires_at < ? OR revoked_at < ?
+                LIMIT ?
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterLock clusterLock;
+    private final RefreshTokenPurgeProperties properties;
+    private final Counter purged;
+    private final Timer chunkTimer;
+
+    public RefreshTokenPurgeService(JdbcTemplate jdbcTemplate,
+                                    ClusterLock clusterLock,
+                                    RefreshTokenPurgeProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterLock = clusterLock;
+        this.properties = properties;
+        this.purged = meterRegistry.counter("auth.refresh_tokens.purged.total");
+        this.chunkTimer = meterRegistry.timer("auth.refresh_tokens.purge.chunk");
+    }
+
+    @Scheduled(cron = "${app.auth.purge.cron:0 */10 * * * *}", zone = "UTC")
+    public void purge() {
+        boolean ran = clusterLock.runExclusively("refresh-token-purge", this::purgeChunks);
+        if (!ran) {
+            log.debug("Refresh token purge skipped; another instance holds the lock");
+        }
+    }
+
+    private void purgeChunks() {
+        Instant now = Instant.now();
+        Timestamp expiredBefore = Timestamp.from(now);
+        Timestamp revokedBefore = Timestamp.from(now.minus(properties.revokedRetention()));
+        long total = 0;
+
+        for (int chunk = 0; chunk < properties.maxChunksPerRun(); chunk++) {
+            int deleted = chunkTimer.record(() ->
+                    jdbcTemplate.update(DELETE_CHUNK, expiredBefore, revokedBefore, properties.chunkSize()));
+            purged.increment(deleted);
+            total += deleted;
+            if (deleted < properties.chunkSize()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Purged {} expired or revoked refresh tokens", total);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.somtranscriber.auth.service;
+
+import com.somtranscriber.common.security.JwtService;
+
+import java.util.UUID;
+
+public interface RefreshTokenStore {
+
+    void store(JwtService.TokenData token, UUID userId);
+
+    boolean rotate(JwtService.ParsedToken consumed, String consumedToken, JwtService.TokenData replacement);
+
+    void revoke(JwtService.ParsedToken token, String rawToken);
+}
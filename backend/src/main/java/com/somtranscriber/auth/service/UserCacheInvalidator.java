@@ -0,0 +1,38 @@
+package com.somtranscriber.auth.service;
+
+import com.somtranscriber.auth.model.UserEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+public class UserCacheInvalidator {
+
+    private final ActiveUserCache activeUserCache;
+
+    public UserCacheInvalidator(ActiveUserCache activeUserCache) {
+        this.activeUserCache = activeUserCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(UserEntity user) {
+        UUID userId = user.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            activeUserCache.invalidate(userId);
+            return;
+        }
+
+        activeUserCache.evictLocal(userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                activeUserCache.invalidate(userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.somtranscriber.calls.cache;
+
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.calls.model.CallStatus;
+import com.somtranscriber.calls.model.NoteSource;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CachedCall(
+        UUID id,
+        UUID userId,
+        Instant callAt,
+        CallStatus status,
+        String audioObjectKey,
+        String detectedLanguage,
+        byte[] transcriptEnglish,
+        String transcriptModel,
+        Long transcriptLatencyMs,
+        byte[] noteText,
+        NoteSource noteSource,
+        byte[] warning,
+        Instant uploadedAt,
+        byte[] finalText,
+        Instant finalizedAt,
+        Instant createdAt,
+        Instant updatedAt
+) {
+
+    private static final int FIXED_OVERHEAD_BYTES = 256;
+
+    static CachedCall from(CallRecordEntity entity, int compressAboveBytes) {
+        return new CachedCall(
+                entity.getId(),
+                entity.getUserId(),
+                entity.getCallAt(),
+                entity.getStatus(),
+                entity.getAudioObjectKey(),
+                entity.getDetectedLanguage(),
+                CompressedText.encode(entity.getTranscriptEnglish(), compressAboveBytes),
+                entity.getTranscriptModel(),
+                entity.getTranscriptLatencyMs(),
+                CompressedText.encode(entity.getNoteText(), compressAboveBytes),
+                entity.getNoteSource(),
+                CompressedText.encode(entity.getWarning(), compressAboveBytes),
+                entity.getUploadedAt(),
+                CompressedText.encode(entity.getFinalText(), compressAboveBytes),
+                entity.getFinalizedAt(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    CallRecordEntity toEntity() {
+        CallRecordEntity entity = new CallRecordEntity();
+        entity.setId(id);
+        entity.setUserId(userId);
+        entity.setCallAt(callAt);
+        entity.setStatus(status);
+        entity.setAudioObjectKey(audioObjectKey);
+        entity.setDetectedLanguage(detectedLanguage);
+        entity.setTranscriptEnglish(CompressedText.decode(transcriptEnglish));
+        entity.setTranscriptModel(transcriptModel);
+        entity.setTranscriptLatencyMs(transcriptLatencyMs);
+        entity.setNoteText(CompressedText.decode(noteText));
+        entity.setNoteSource(noteSource);
+        entity.setWarning(CompressedText.decode(warning));
+        entity.setUploadedAt(uploadedAt);
+        entity.setFinalText(CompressedText.decode(finalText));
+        entity.setFinalizedAt(finalizedAt);
+        entity.setCreatedAt(createdAt);
+        entity.setUpdatedAt(updatedAt);
+        return entity;
+    }
+
+    int weightBytes() {
+        long weight = FIXED_OVERHEAD_BYTES
+                + length(transcriptEnglish)
+                + length(noteText)
+                + length(warning)
+                + length(finalText)
+                + length(audioObjectKey) * 2L
+                + length(transcriptModel) * 2L;
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
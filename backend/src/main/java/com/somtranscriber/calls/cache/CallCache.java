@@ -0,0 +1,164 @@
+package com.somtranscriber.calls.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.calls.model.CallStatus;
+import com.somtranscriber.common.db.ReplicaRoutingDataSource;
+import com.somtranscriber.config.CallCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+public class CallCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CallCache.class);
+    private static final Set<CallStatus> CACHEABLE = EnumSet.of(
+            CallStatus.READY,
+            CallStatus.READY_WITH_WARNING,
+            CallStatus.FINALIZED
+    );
+
+    private final CallCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, CachedCall> near;
+    private final Cache<UUID, Long> recentInvalidations;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public CallCache(CallCacheProperties properties,
+                     StringRedisTemplate redisTemplate,
+                     ObjectMapper objectMapper,
+                     MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.near = Caffeine.newBuilder()
+                .maximumWeight(properties.maxWeightBytes())
+                .weigher((UUID id, CachedCall call) -> call.weightBytes())
+                .expireAfterWrite(properties.nearTtl())
+                .recordStats()
+                .build();
+        this.recentInvalidations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .maximumSize(10_000)
+                .build();
+        this.redisHits = meterRegistry.counter("calls.cache.redis.requests.total", "result", "hit");
+        this.redisMisses = meterRegistry.counter("calls.cache.redis.requests.total", "result", "miss");
+        this.redisErrors = meterRegistry.counter("calls.cache.redis.errors.total");
+
+        CaffeineCacheMetrics.monitor(meterRegistry, near, "calls.near");
+        meterRegistry.gauge("calls.cache.near.weight.bytes", near,
+                cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L));
+        meterRegistry.gauge("calls.cache.near.hit.ratio", near, cache -> cache.stats().hitRate());
+    }
+
+    public Optional<CallRecordEntity> get(UUID callId, Supplier<Optional<CallRecordEntity>> loader) {
+        if (!properties.enabled()) {
+            return loader.get();
+        }
+
+        CachedCall cached = near.getIfPresent(callId);
+        if (cached != null) {
+            return Optional.of(cached.toEntity());
+        }
+
+        long ticket = System.nanoTime();
+        cached = readShared(callId);
+        if (cached != null) {
+            if (!invalidatedSince(callId, ticket)) {
+                near.put(callId, cached);
+            }
+            return Optional.of(cached.toEntity());
+        }
+
+        Optional<CallRecordEntity> loaded = ReplicaRoutingDataSource.onPrimary(loader);
+        loaded.filter(call -> CACHEABLE.contains(call.getStatus()))
+                .ifPresent(call -> store(call, ticket));
+        return loaded;
+    }
+
+    public void invalidate(UUID callId) {
+        evictLocal(callId);
+        if (!properties.enabled() || !properties.redisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(key(callId));
+            redisTemplate.convertAndSend(properties.invalidationChannel(), callId.toString());
+        } catch (RuntimeException exception) {
+            redisErrors.increment();
+            log.warn("Unable to publish cache invalidation for call {}", callId, exception);
+        }
+    }
+
+    public void evictLocal(UUID callId) {
+        recentInvalidations.put(callId, System.nanoTime());
+        near.invalidate(callId);
+    }
+
+    private void store(CallRecordEntity call, long ticket) {
+        if (invalidatedSince(call.getId(), ticket)) {
+            return;
+        }
+        CachedCall snapshot = CachedCall.from(call, properties.compressAboveBytes());
+        near.put(call.getId(), snapshot);
+        writeShared(snapshot);
+    }
+
+    private boolean invalidatedSince(UUID callId, long ticket) {
+        Long invalidatedAt = recentInvalidations.getIfPresent(callId);
+        return invalidatedAt != null && invalidatedAt - ticket >= 0;
+    }
+
+    private CachedCall readShared(UUID callId) {
+        if (!properties.redisEnabled()) {
+            return null;
+        }
+        try {
+            String payload = redisTemplate.opsForValue().get(key(callId));
+            if (payload == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(payload, CachedCall.class);
+        } catch (JsonProcessingException | RuntimeException exception) {
+            redisErrors.increment();
+            log.debug("Shared cache read failed for call {}", callId, exception);
+            return null;
+        }
+    }
+
+    private void writeShared(CachedCall snapshot) {
+        if (!properties.redisEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key(snapshot.id()), objectMapper.writeValueAsString(snapshot), properties.redisTtl());
+        } catch (JsonProcessingException | RuntimeException exception) {
+            redisErrors.increment();
+            log.debug("Shared cache write failed for call {}", snapshot.id(), exception);
+        }
+    }
+
+    private String key(UUID callId) {
+        return properties.keyPrefix() + callId;
+    }
+}
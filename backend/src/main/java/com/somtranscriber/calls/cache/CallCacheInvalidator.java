@@ -0,0 +1,36 @@
+package com.somtranscriber.calls.cache;
+
+import com.somtranscriber.calls.model.CallRecordEntity;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+public class CallCacheInvalidator {
+
+    private final CallCache callCache;
+
+    public CallCacheInvalidator(CallCache callCache) {
+        this.callCache = callCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onWrite(CallRecordEntity call) {
+        UUID callId = call.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callCache.invalidate(callId);
+            return;
+        }
+
+        callCache.evictLocal(callId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callCache.invalidate(callId);
+            }
+        });
+    }
+}
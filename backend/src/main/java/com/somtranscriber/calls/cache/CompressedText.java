@@ -0,0 +1,90 @@
+package com.somtranscriber.calls.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+final class CompressedText {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    private CompressedText() {
+    }
+
+    static byte[] encode(String text, int compressAboveBytes) {
+        if (text == null) {
+            return null;
+        }
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (compressAboveBytes > 0 && utf8.length > compressAboveBytes) {
+            byte[] deflated = deflate(utf8);
+            if (deflated.length < utf8.length) {
+                return tagged(DEFLATED, deflated);
+            }
+        }
+        return tagged(RAW, utf8);
+    }
+
+    static String decode(byte[] encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        if (encoded.length == 0) {
+            throw new IllegalArgumentException("Encoded text is missing its header");
+        }
+        byte[] payload = Arrays.copyOfRange(encoded, 1, encoded.length);
+        return switch (encoded[0]) {
+            case RAW -> new String(payload, StandardCharsets.UTF_8);
+            case DEFLATED -> new String(inflate(payload), StandardCharsets.UTF_8);
+            default -> throw new IllegalArgumentException("Unknown text encoding " + encoded[0]);
+        };
+    }
+
+    private static byte[] tagged(byte tag, byte[] payload) {
+        byte[] out = new byte[payload.length + 1];
+        out[0] = tag;
+        System.arraycopy(payload, 0, out, 1, payload.length);
+        return out;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && inflater.needsInput()) {
+                    throw new IllegalArgumentException("Truncated compressed text");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException exception) {
+            throw new IllegalArgumentException("Corrupt compressed text", exception);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.somtranscriber.calls.controller;
 import com.somtranscriber.calls.dto.CallResponse;
 import com.somtranscriber.calls.dto.CreateCallRequest;
 import com.somtranscriber.calls.dto.UpdateDraftRequest;
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.calls.service.CallETags;
 import com.somtranscriber.calls.service.CallMapper;
 import com.somtranscriber.calls.service.CallService;
 import com.somtranscriber.common.security.AuthenticatedUser;
@@ -10,13 +12,18 @@ import com.somtranscriber.common.security.SecurityUtils;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/v1/calls")
@@ -36,17 +43,31 @@ public class CallController {
     }
 
     @PostMapping(path = "/{callId}/audio", consumes = {"multipart/form-data"})
-    public CallResponse uploadAudio(@PathVariable UUID callId,
-                                    @RequestPart("file") MultipartFile file,
-                                    @RequestParam("durationSeconds") @Min(1) @Max(120) int durationSeconds) {
+    public CompletableFuture<CallResponse> uploadAudio(@PathVariable UUID callId,
+                                                       @RequestPart("file") MultipartFile file,
+                                                       @RequestParam("durationSeconds") @Min(1) @Max(120) int durationSeconds) {
         AuthenticatedUser user = SecurityUtils.currentUser();
-        return CallMapper.toResponse(callService.uploadAudio(user.userId(), callId, file, durationSeconds));
+        return callService.uploadAudio(user.userId(), callId, file, durationSeconds)
+                .thenApply(CallMapper::toResponse);
     }
 
     @GetMapping("/{callId}")
-    public CallResponse getCall(@PathVariable UUID callId) {
+    public ResponseEntity<CallResponse> getCall(@PathVariable UUID callId, WebRequest request) {
         AuthenticatedUser user = SecurityUtils.currentUser();
-        return CallMapper.toResponse(callService.getCall(callId, user.userId()));
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            boolean notModified = callService.getCallVersion(callId, user.userId())
+                    .map(updatedAt -> request.checkNotModified(CallETags.forCall(updatedAt)))
+                    .orElse(false);
+            if (notModified) {
+                return null;
+            }
+        }
+
+        CallRecordEntity call = callService.getCall(callId, user.userId());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(CallETags.forCall(call.getUpdatedAt()))
+                .body(CallMapper.toResponse(call));
     }
 
     @PatchMapping("/{callId}/draft")
@@ -63,12 +84,22 @@ public class CallController {
     }
 
     @GetMapping
-    public List<CallResponse> listCalls(@RequestParam(value = "from", required = false) Instant from,
-                                        @RequestParam(value = "to", required = false) Instant to) {
+    public ResponseEntity<List<CallResponse>> listCalls(@RequestParam(value = "from", required = false) Instant from,
+                                                        @RequestParam(value = "to", required = false) Instant to,
+                                                        WebRequest request) {
         AuthenticatedUser user = SecurityUtils.currentUser();
-        return callService.listCalls(user.userId(), from, to)
+        String eTag = CallETags.forList(callService.getListVersion(user.userId(), from, to));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        List<CallResponse> calls = callService.listCalls(user.userId(), from, to)
                 .stream()
                 .map(CallMapper::toResponse)
                 .toList();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(eTag)
+                .body(calls);
     }
 }
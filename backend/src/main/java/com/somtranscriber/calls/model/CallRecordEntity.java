@@ -1,5 +1,8 @@
 package com.somtranscriber.calls.model;
 
+import com.somtranscriber.calls.cache.CallCacheInvalidator;
+import com.somtranscriber.calls.repo.CallReadYourWritesListener;
+import com.somtranscriber.common.db.UuidV7Id;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -7,10 +10,11 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "call_records")
+@EntityListeners({CallCacheInvalidator.class, CallReadYourWritesListener.class})
 public class CallRecordEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(name = "user_id", nullable = false)
@@ -48,6 +52,9 @@ public class CallRecordEntity {
     @Column(columnDefinition = "TEXT")
     private String warning;
 
+    @Column(name = "uploaded_at")
+    private Instant uploadedAt;
+
     @Column(name = "final_text", columnDefinition = "TEXT")
     private String finalText;
 
@@ -172,6 +179,14 @@ public class CallRecordEntity {
         this.warning = warning;
     }
 
+    public Instant getUploadedAt() {
+        return uploadedAt;
+    }
+
+    public void setUploadedAt(Instant uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+
     public String getFinalText() {
         return finalText;
     }
@@ -0,0 +1,6 @@
+package com.somtranscriber.calls.repo;
+
+import java.time.Instant;
+
+public record CallListVersion(long count, Instant lastUpdatedAt) {
+}
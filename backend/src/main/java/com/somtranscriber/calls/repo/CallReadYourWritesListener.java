@@ -0,0 +1,43 @@
+package com.somtranscriber.calls.repo;
+
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.common.db.ReadYourWritesTracker;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+public class CallReadYourWritesListener {
+
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+
+    public CallReadYourWritesListener(ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(CallRecordEntity call) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        UUID userId = call.getUserId();
+        if (tracker == null || userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tracker.recordWrite(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.recordWrite(userId);
+            }
+        });
+    }
+}
@@ -2,6 +2,8 @@ package com.somtranscriber.calls.repo;
 
 import com.somtranscriber.calls.model.CallRecordEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
@@ -14,4 +16,23 @@ public interface CallRecordRepository extends JpaRepository<CallRecordEntity, UU
     List<CallRecordEntity> findByUserIdAndCallAtBetweenOrderByCallAtDesc(UUID userId, Instant from, Instant to);
 
     List<CallRecordEntity> findByUserIdOrderByCallAtDesc(UUID userId);
+
+    @Query("select c.updatedAt from CallRecordEntity c where c.id = :id and c.userId = :userId")
+    Optional<Instant> findUpdatedAtByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    @Query("""
+            select new com.somtranscriber.calls.repo.CallListVersion(count(c), max(c.updatedAt))
+            from CallRecordEntity c
+            where c.userId = :userId
+            """)
+    CallListVersion findListVersionByUserId(@Param("userId") UUID userId);
+
+    @Query("""
+            select new com.somtranscriber.calls.repo.CallListVersion(count(c), max(c.updatedAt))
+            from CallRecordEntity c
+            where c.userId = :userId and c.callAt between :from and :to
+            """)
+    CallListVersion findListVersionByUserIdAndCallAtBetween(@Param("userId") UUID userId,
+                                                            @Param("from") Instant from,
+                                                            @Param("to") Instant to);
 }
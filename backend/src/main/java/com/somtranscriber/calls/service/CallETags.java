@@ -0,0 +1,24 @@
+package com.somtranscriber.calls.service;
+
+import com.somtranscriber.calls.repo.CallListVersion;
+
+import java.time.Instant;
+
+public final class CallETags {
+
+    private CallETags() {
+    }
+
+    public static String forCall(Instant updatedAt) {
+        return "\"c" + Long.toHexString(epochMicros(updatedAt)) + "\"";
+    }
+
+    public static String forList(CallListVersion version) {
+        long lastUpdated = version.lastUpdatedAt() == null ? 0 : epochMicros(version.lastUpdatedAt());
+        return "\"l" + Long.toHexString(version.count()) + "-" + Long.toHexString(lastUpdated) + "\"";
+    }
+
+    private static long epochMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+}
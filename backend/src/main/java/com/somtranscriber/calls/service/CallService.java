@@ -1,13 +1,15 @@
 package com.somtranscriber.calls.service;
 
+import com.somtranscriber.calls.cache.CallCache;
 import com.somtranscriber.calls.dto.CreateCallRequest;
 import com.somtranscriber.calls.dto.UpdateDraftRequest;
 import com.somtranscriber.calls.model.CallRecordEntity;
 import com.somtranscriber.calls.model.CallStatus;
+import com.somtranscriber.calls.repo.CallListVersion;
 import com.somtranscriber.calls.repo.CallRecordRepository;
 import com.somtranscriber.common.exception.BadRequestException;
 import com.somtranscriber.common.exception.NotFoundException;
-import com.somtranscriber.processing.service.ProcessingService;
+import com.somtranscriber.processing.service.UploadPipeline;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,20 +17,25 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class CallService {
 
     private final CallRecordRepository callRecordRepository;
-    private final ProcessingService processingService;
+    private final UploadPipeline uploadPipeline;
+    private final CallCache callCache;
     private final MeterRegistry meterRegistry;
 
     public CallService(CallRecordRepository callRecordRepository,
-                       ProcessingService processingService,
+                       UploadPipeline uploadPipeline,
+                       CallCache callCache,
                        MeterRegistry meterRegistry) {
         this.callRecordRepository = callRecordRepository;
-        this.processingService = processingService;
+        this.uploadPipeline = uploadPipeline;
+        this.callCache = callCache;
         this.meterRegistry = meterRegistry;
     }
 
@@ -41,19 +48,25 @@ public class CallService {
         return callRecordRepository.save(entity);
     }
 
-    @Transactional
-    public CallRecordEntity uploadAudio(UUID userId, UUID callId, MultipartFile file, int durationSeconds) {
+    public CompletableFuture<CallRecordEntity> uploadAudio(UUID userId, UUID callId, MultipartFile file, int durationSeconds) {
         CallRecordEntity call = getOwnedCall(callId, userId);
         if (call.getStatus() == CallStatus.FINALIZED) {
             throw new BadRequestException("Cannot upload audio for finalized note");
         }
 
-        return processingService.processUpload(call, file, durationSeconds);
+        return uploadPipeline.processUpload(call, file, durationSeconds);
     }
 
     @Transactional(readOnly = true)
     public CallRecordEntity getCall(UUID callId, UUID userId) {
-        return getOwnedCall(callId, userId);
+        return callCache.get(callId, () -> callRecordRepository.findByIdAndUserId(callId, userId))
+                .filter(call -> call.getUserId().equals(userId))
+                .orElseThrow(() -> new NotFoundException("Call record not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> getCallVersion(UUID callId, UUID userId) {
+        return callRecordRepository.findUpdatedAtByIdAndUserId(callId, userId);
     }
 
     @Transactional
@@ -96,6 +109,14 @@ public class CallService {
         return callRecordRepository.findByUserIdOrderByCallAtDesc(userId);
     }
 
+    @Transactional(readOnly = true)
+    public CallListVersion getListVersion(UUID userId, Instant from, Instant to) {
+        if (from != null && to != null) {
+            return callRecordRepository.findListVersionByUserIdAndCallAtBetween(userId, from, to);
+        }
+        return callRecordRepository.findListVersionByUserId(userId);
+    }
+
     private CallRecordEntity getOwnedCall(UUID callId, UUID userId) {
         return callRecordRepository.findByIdAndUserId(callId, userId)
                 .orElseThrow(() -> new NotFoundException("Call record not found"));
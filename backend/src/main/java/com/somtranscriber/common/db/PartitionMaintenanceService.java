@@ -0,0 +1,136 @@
+package com.somtranscriber.common.db;
+
+import com.somtranscriber.config.PartitionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@ConditionalOnProperty(value = "app.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class PartitionMaintenanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+    private static final List<String> PARTITIONED_TABLES = List.of("call_records", "job_attempts");
+    private static final String JOB_ATTEMPTS_TABLE = "job_attempts";
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("^job_attempts_p(\\d{4})_(\\d{2})$");
+    private static final Pattern IDENTIFIER = Pattern.compile("^[a-z_][a-z0-9_]*$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterLock clusterLock;
+    private final PartitionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public PartitionMaintenanceService(JdbcTemplate jdbcTemplate,
+                                       ClusterLock clusterLock,
+                                       PartitionProperties properties,
+                                       MeterRegistry meterRegistry) {
+        String archiveSchema = properties.archiveSchema();
+        if (archiveSchema != null && !archiveSchema.isBlank() && !IDENTIFIER.matcher(archiveSchema).matches()) {
+            throw new IllegalArgumentException("Invalid partition archive schema: " + archiveSchema);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterLock = clusterLock;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.partitions.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        boolean ran = clusterLock.runExclusively("partition-maintenance", () -> {
+            createFuturePartitions();
+            retireJobAttemptPartitions();
+        });
+        if (!ran) {
+            log.debug("Partition maintenance skipped; another instance holds the lock");
+        }
+    }
+
+    private void createFuturePartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (String table : PARTITIONED_TABLES) {
+            for (int offset = 0; offset <= properties.monthsAhead(); offset++) {
+                LocalDate monthStart = current.plusMonths(offset).atDay(1);
+                try {
+                    Boolean created = jdbcTemplate.queryForObject(
+                            "SELECT create_monthly_partition(?, ?)",
+                            Boolean.class,
+                            table,
+                            Date.valueOf(monthStart)
+                    );
+                    if (Boolean.TRUE.equals(created)) {
+                        meterRegistry.counter("db.partitions.created.total", "table", table).increment();
+                        log.info("Created partition of {} for {}", table, monthStart);
+                    }
+                } catch (DataAccessException exception) {
+                    meterRegistry.counter("db.partitions.failed.total", "table", table).increment();
+                    log.warn("Unable to create partition of {} for {}", table, monthStart, exception);
+                }
+            }
+        }
+    }
+
+    private void retireJobAttemptPartitions() {
+        if (properties.jobAttemptRetentionMonths() <= 0) {
+            return;
+        }
+
+        YearMonth oldestRetained = YearMonth.now(ZoneOffset.UTC)
+                .minusMonths(properties.jobAttemptRetentionMonths());
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                WHERE parent.relname = ?
+                """, String.class, JOB_ATTEMPTS_TABLE);
+
+        for (String partition : partitions) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(oldestRetained)) {
+                continue;
+            }
+            retire(partition);
+        }
+    }
+
+    private void retire(String partition) {
+        jdbcTemplate.execute("ALTER TABLE " + JOB_ATTEMPTS_TABLE + " DETACH PARTITION " + partition);
+
+        String archiveSchema = properties.archiveSchema();
+        if (archiveSchema == null || archiveSchema.isBlank()) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            meterRegistry.counter("db.partitions.retired.total", "table", JOB_ATTEMPTS_TABLE, "action", "dropped").increment();
+            log.info("Dropped partition {}", partition);
+            return;
+        }
+
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+        meterRegistry.counter("db.partitions.retired.total", "table", JOB_ATTEMPTS_TABLE, "action", "archived").increment();
+        log.info("Archived partition {} to schema {}", partition, archiveSchema);
+    }
+}
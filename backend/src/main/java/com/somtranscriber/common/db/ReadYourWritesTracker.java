@@ -0,0 +1,62 @@
+package com.somtranscriber.common.db;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadYourWritesTracker.class);
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final Duration window;
+    private final long windowNanos;
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Map<UUID, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.window = window;
+        this.windowNanos = window.toNanos();
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+    }
+
+    public void recordWrite(UUID userId) {
+        lastWriteNanos.put(userId, System.nanoTime());
+        if (lastWriteNanos.size() > SWEEP_THRESHOLD) {
+            sweep();
+        }
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + userId, "1", window);
+        } catch (Exception exception) {
+            log.warn("Unable to share recent write for user {}: {}", userId, exception.getMessage());
+        }
+    }
+
+    public boolean requiresPrimary(UUID userId) {
+        Long writtenAt = lastWriteNanos.get(userId);
+        if (writtenAt != null) {
+            if (System.nanoTime() - writtenAt < windowNanos) {
+                return true;
+            }
+            lastWriteNanos.remove(userId, writtenAt);
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(keyPrefix + userId));
+        } catch (Exception exception) {
+            log.warn("Unable to check recent writes for user {}, reading from primary: {}", userId, exception.getMessage());
+            return true;
+        }
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        lastWriteNanos.entrySet().removeIf(entry -> now - entry.getValue() >= windowNanos);
+    }
+}
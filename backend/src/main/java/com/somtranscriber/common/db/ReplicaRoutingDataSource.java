@@ -0,0 +1,171 @@
+package com.somtranscriber.common.db;
+
+import com.somtranscriber.common.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Duration maxLag;
+    private final AtomicLong replicaLagMillis = new AtomicLong();
+    private volatile boolean replicaAvailable = true;
+
+    private final Counter primaryReadWrite;
+    private final Counter replicaReadOnly;
+    private final Counter primaryPinned;
+    private final Counter fallbackReadYourWrites;
+    private final Counter fallbackLagging;
+    private final Counter fallbackUnavailable;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLag = maxLag;
+        this.primaryReadWrite = meterRegistry.counter("datasource.routing.total", "target", "primary", "reason", "read_write");
+        this.replicaReadOnly = meterRegistry.counter("datasource.routing.total", "target", "replica", "reason", "read_only");
+        this.primaryPinned = meterRegistry.counter("datasource.routing.total", "target", "primary", "reason", "pinned");
+        this.fallbackReadYourWrites = fallbackCounter(meterRegistry, "read_your_writes");
+        this.fallbackLagging = fallbackCounter(meterRegistry, "replica_lagging");
+        this.fallbackUnavailable = fallbackCounter(meterRegistry, "replica_unavailable");
+        meterRegistry.gauge("datasource.replica.lag.seconds", replicaLagMillis, lag -> lag.get() / 1000.0);
+    }
+
+    /**
+     * Runs {@code work} with its read-only connections taken from the primary, without counting them as
+     * writes. Used where a read is kept beyond the request (e.g. cached), so a lagging replica cannot
+     * leave a stale row behind.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = PINNED_TO_PRIMARY.get();
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PINNED_TO_PRIMARY.remove();
+            } else {
+                PINNED_TO_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        UUID userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite(userId);
+            primaryReadWrite.increment();
+            return primary.getConnection();
+        }
+
+        if (PINNED_TO_PRIMARY.get() != null) {
+            primaryPinned.increment();
+            return primary.getConnection();
+        }
+
+        if (userId != null && readYourWritesTracker.requiresPrimary(userId)) {
+            fallbackReadYourWrites.increment();
+            return primary.getConnection();
+        }
+        if (!replicaAvailable) {
+            fallbackUnavailable.increment();
+            return primary.getConnection();
+        }
+        if (replicaLagMillis.get() > maxLag.toMillis()) {
+            fallbackLagging.increment();
+            return primary.getConnection();
+        }
+
+        try {
+            Connection connection = replica.getConnection();
+            replicaReadOnly.increment();
+            return connection;
+        } catch (SQLException exception) {
+            log.warn("Replica connection failed, routing read to primary", exception);
+            replicaAvailable = false;
+            fallbackUnavailable.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public DataSource replica() {
+        return replica;
+    }
+
+    public void updateReplicaLag(Duration lag) {
+        replicaLagMillis.set(lag.toMillis());
+        replicaAvailable = true;
+    }
+
+    public void markReplicaUnavailable() {
+        replicaAvailable = false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void recordWrite(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        readYourWritesTracker.recordWrite(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.recordWrite(userId);
+                }
+            });
+        }
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.userId();
+        }
+        return null;
+    }
+
+    private static Counter fallbackCounter(MeterRegistry meterRegistry, String reason) {
+        return meterRegistry.counter("datasource.routing.total", "target", "primary", "reason", reason);
+    }
+}
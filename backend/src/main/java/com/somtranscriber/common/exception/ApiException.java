@@ -11,6 +11,11 @@ public class ApiException extends RuntimeException {
         this.status = status;
     }
 
+    protected ApiException(HttpStatus status, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.status = status;
+    }
+
     public HttpStatus getStatus() {
         return status;
     }
@@ -4,6 +4,6 @@ import org.springframework.http.HttpStatus;
 
 public class UnauthorizedException extends ApiException {
     public UnauthorizedException(String message) {
-        super(HttpStatus.UNAUTHORIZED, message);
+        super(HttpStatus.UNAUTHORIZED, message, false);
     }
 }
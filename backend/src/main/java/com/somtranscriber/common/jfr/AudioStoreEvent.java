@@ -0,0 +1,26 @@
+package com.somtranscriber.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.somtranscriber.AudioStore")
+@Label("Audio Store")
+@Category({"SomTranscriber", "Storage"})
+@StackTrace(false)
+public class AudioStoreEvent extends jdk.jfr.Event {
+
+    @Label("Key")
+    public String key;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Write Time")
+    @Timespan
+    public long writeNanos;
+}
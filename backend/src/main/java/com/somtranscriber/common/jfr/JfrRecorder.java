@@ -0,0 +1,140 @@
+package com.somtranscriber.common.jfr;
+
+import com.somtranscriber.common.exception.BadRequestException;
+import com.somtranscriber.config.JfrProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class JfrRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecorder.class);
+    private static final String RECORDING_NAME = "somtranscriber";
+
+    private final JfrProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private String settings;
+
+    public JfrRecorder(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startContinuous() {
+        if (properties.continuous()) {
+            start(null, null);
+        }
+    }
+
+    public RecordingStatus start(String requestedSettings, Duration requestedMaxAge) {
+        lock.lock();
+        try {
+            if (isRunning()) {
+                return status();
+            }
+
+            String settingsName = requestedSettings == null || requestedSettings.isBlank()
+                    ? properties.settings()
+                    : requestedSettings;
+            Configuration configuration;
+            try {
+                configuration = Configuration.getConfiguration(settingsName);
+            } catch (IOException | ParseException exception) {
+                throw new BadRequestException("Unknown JFR settings: " + settingsName);
+            }
+
+            Recording started = new Recording(configuration);
+            started.setName(RECORDING_NAME);
+            started.setToDisk(true);
+            started.setMaxAge(requestedMaxAge != null ? requestedMaxAge : properties.maxAge());
+            if (properties.maxSize() != null) {
+                started.setMaxSize(properties.maxSize().toBytes());
+            }
+            started.start();
+            recording = started;
+            settings = settingsName;
+            log.info("Started JFR recording with {} settings", settingsName);
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<Path> dump() {
+        lock.lock();
+        try {
+            if (!isRunning()) {
+                return Optional.empty();
+            }
+            Path directory = Files.createDirectories(Path.of(properties.dumpDir()));
+            Path target = Files.createTempFile(directory, RECORDING_NAME + "-", ".jfr");
+            recording.dump(target);
+            return Optional.of(target);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to dump JFR recording", exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RecordingStatus stop() {
+        lock.lock();
+        try {
+            if (recording != null) {
+                recording.close();
+                recording = null;
+                settings = null;
+            }
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RecordingStatus status() {
+        lock.lock();
+        try {
+            if (recording == null) {
+                return new RecordingStatus(RecordingState.CLOSED.name(), null, null, null, 0);
+            }
+            return new RecordingStatus(
+                    recording.getState().name(),
+                    settings,
+                    recording.getStartTime(),
+                    recording.getMaxAge(),
+                    recording.getSize()
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        stop();
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    public record RecordingStatus(String state, String settings, Instant startedAt, Duration maxAge, long sizeBytes) {
+    }
+}
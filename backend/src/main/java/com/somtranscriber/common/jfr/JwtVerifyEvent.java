@@ -0,0 +1,19 @@
+package com.somtranscriber.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.somtranscriber.JwtVerify")
+@Label("JWT Verify")
+@Category({"SomTranscriber", "Auth"})
+@StackTrace(false)
+public class JwtVerifyEvent extends jdk.jfr.Event {
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+
+    @Label("Valid")
+    public boolean valid;
+}
@@ -0,0 +1,36 @@
+package com.somtranscriber.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.somtranscriber.PipelineStage")
+@Label("Pipeline Stage")
+@Description("One transcription, translation, format or persist stage of a call")
+@Category({"SomTranscriber", "Pipeline"})
+@StackTrace(false)
+public class PipelineStageEvent extends jdk.jfr.Event {
+
+    @Label("Call Id")
+    public String callId;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Model")
+    public String model;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Bytes In")
+    @DataAmount
+    public long bytesIn;
+
+    @Label("Bytes Out")
+    @DataAmount
+    public long bytesOut;
+}
@@ -0,0 +1,25 @@
+package com.somtranscriber.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.somtranscriber.RetryQueuePoll")
+@Label("Retry Queue Poll")
+@Description("One poll of the Redis retry queue")
+@Category({"SomTranscriber", "Retry Queue"})
+@StackTrace(false)
+public class RetryQueuePollEvent extends jdk.jfr.Event {
+
+    @Label("Claimed")
+    @Description("A ready job was removed from the queue by this poll")
+    public boolean claimed;
+
+    @Label("Empty")
+    public boolean empty;
+
+    @Label("Stage")
+    public String stage;
+}
@@ -36,11 +36,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = header.substring("Bearer ".length());
         try {
-            JwtService.ParsedToken parsedToken = jwtService.parse(token);
-            if (!"access".equals(parsedToken.tokenType())) {
-                throw new UnauthorizedException("Expected access token");
-            }
-
+            JwtService.ParsedToken parsedToken = jwtService.verifyAccessToken(token);
             AuthenticatedUser user = new AuthenticatedUser(
                     parsedToken.userId(),
                     parsedToken.email(),
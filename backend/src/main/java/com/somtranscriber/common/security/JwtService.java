@@ -1,18 +1,26 @@
 package com.somtranscriber.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.somtranscriber.auth.model.UserEntity;
 import com.somtranscriber.auth.model.UserRole;
 import com.somtranscriber.config.AppProperties;
 import com.somtranscriber.common.exception.UnauthorizedException;
+import com.somtranscriber.common.jfr.JwtVerifyEvent;
+import com.somtranscriber.common.util.Hashing;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
@@ -23,15 +31,24 @@ import java.util.UUID;
 public class JwtService {
 
     private final AppProperties properties;
-    private SecretKey secretKey;
+    private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Cache<String, ParsedToken> verifiedAccessTokens;
 
-    public JwtService(AppProperties properties) {
+    public JwtService(AppProperties properties, MeterRegistry meterRegistry) {
         this.properties = properties;
+        this.secretKey = buildKey(properties.jwt().secret());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(properties.jwt().verifiedCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedAccessTokens, "jwt.verified");
     }
 
-    @PostConstruct
-    void initKey() {
-        byte[] source = properties.jwt().secret().getBytes(StandardCharsets.UTF_8);
+    private static SecretKey buildKey(String secret) {
+        byte[] source = secret.getBytes(StandardCharsets.UTF_8);
         if (source.length < 32) {
             byte[] expanded = new byte[32];
             for (int i = 0; i < expanded.length; i++) {
@@ -39,29 +56,37 @@ public class JwtService {
             }
             source = expanded;
         }
-        this.secretKey = Keys.hmacShaKeyFor(source);
+        return Keys.hmacShaKeyFor(source);
     }
 
     public TokenData generateAccessToken(UserEntity user) {
+        return generateAccessToken(principal(user));
+    }
+
+    public TokenData generateAccessToken(AuthenticatedUser user) {
         Instant expiresAt = Instant.now().plus(properties.jwt().accessTtlMinutes(), ChronoUnit.MINUTES);
         String token = buildToken(user, expiresAt, "access", UUID.randomUUID().toString());
         return new TokenData(token, expiresAt, null);
     }
 
     public TokenData generateRefreshToken(UserEntity user) {
+        return generateRefreshToken(principal(user));
+    }
+
+    public TokenData generateRefreshToken(AuthenticatedUser user) {
         Instant expiresAt = Instant.now().plus(properties.jwt().refreshTtlDays(), ChronoUnit.DAYS);
         String tokenId = UUID.randomUUID().toString();
         String token = buildToken(user, expiresAt, "refresh", tokenId);
         return new TokenData(token, expiresAt, tokenId);
     }
 
-    private String buildToken(UserEntity user, Instant expiresAt, String type, String tokenId) {
+    private String buildToken(AuthenticatedUser user, Instant expiresAt, String type, String tokenId) {
         return Jwts.builder()
                 .issuer(properties.jwt().issuer())
-                .subject(user.getId().toString())
+                .subject(user.userId().toString())
                 .claims(Map.of(
-                        "email", user.getEmail(),
-                        "role", user.getRole().name(),
+                        "email", user.email(),
+                        "role", user.role().name(),
                         "type", type,
                         "jti", tokenId
                 ))
@@ -71,13 +96,44 @@ public class JwtService {
                 .compact();
     }
 
+    private static AuthenticatedUser principal(UserEntity user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    public ParsedToken verifyAccessToken(String token) {
+        JwtVerifyEvent event = new JwtVerifyEvent();
+        event.begin();
+        boolean cacheHit = false;
+        boolean valid = false;
+        try {
+            String digest = Hashing.sha256Hex(token);
+            ParsedToken cached = verifiedAccessTokens.getIfPresent(digest);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                cacheHit = true;
+                valid = true;
+                return cached;
+            }
+
+            ParsedToken parsed = parse(token);
+            if (!"access".equals(parsed.tokenType())) {
+                throw new UnauthorizedException("Expected access token");
+            }
+            verifiedAccessTokens.put(digest, parsed);
+            valid = true;
+            return parsed;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.cacheHit = cacheHit;
+                event.valid = valid;
+                event.commit();
+            }
+        }
+    }
+
     public ParsedToken parse(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
             String subject = claims.getSubject();
             String email = claims.get("email", String.class);
@@ -103,6 +159,24 @@ public class JwtService {
         }
     }
 
+    private static final class UntilTokenExpiry implements Expiry<String, ParsedToken> {
+
+        @Override
+        public long expireAfterCreate(String digest, ParsedToken token, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, ParsedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, ParsedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
     public record TokenData(String token, Instant expiresAt, String tokenId) {
     }
 
@@ -0,0 +1,43 @@
+package com.somtranscriber.common.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    // Unix millis in the high bits, a 12-bit sequence in the low bits. Sequence overflow borrows the next
+    // millisecond so ids stay strictly increasing without taking a lock.
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long previous;
+        long next;
+        do {
+            previous = LAST_TIMESTAMP_AND_SEQUENCE.get();
+            next = Math.max(previous + 1, now);
+        } while (!LAST_TIMESTAMP_AND_SEQUENCE.compareAndSet(previous, next));
+
+        long millis = next >>> COUNTER_BITS;
+        long mostSignificant = (millis << 16) | VERSION_7 | (next & COUNTER_MASK);
+        long leastSignificant = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_4122;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
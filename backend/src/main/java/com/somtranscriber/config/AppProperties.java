@@ -18,7 +18,8 @@ public record AppProperties(
             String issuer,
             long accessTtlMinutes,
             long refreshTtlDays,
-            String secret
+            String secret,
+            long verifiedCacheSize
     ) {}
 
     public record Audio(
@@ -41,8 +42,16 @@ public record AppProperties(
     public record Retry(
             String queueKey,
             int maxAttempts,
-            boolean asyncOnUpload
-    ) {}
+            boolean asyncOnUpload,
+            Worker worker
+    ) {
+
+        public record Worker(
+                boolean enabled,
+                long delayMs,
+                int concurrency
+        ) {}
+    }
 
     public record Cors(
             List<String> allowedOriginPatterns
@@ -0,0 +1,15 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.auth")
+public record AuthProperties(
+        Duration userCacheTtl,
+        boolean userCacheRedisInvalidation,
+        String userCacheInvalidationChannel,
+        String refreshTokenStore,
+        String refreshTokenKeyPrefix
+) {
+}
@@ -0,0 +1,38 @@
+package com.somtranscriber.config;
+
+import com.somtranscriber.calls.cache.CallCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Configuration
+@ConditionalOnProperty(value = "app.call-cache.redis-enabled", havingValue = "true")
+public class CallCacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(CallCacheConfig.class);
+
+    @Bean
+    public RedisMessageListenerContainer callCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       CallCache callCache,
+                                                                       CallCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                callCache.evictLocal(UUID.fromString(body));
+            } catch (IllegalArgumentException exception) {
+                log.warn("Ignoring malformed call cache invalidation: {}", body);
+            }
+        }, new ChannelTopic(properties.invalidationChannel()));
+        return container;
+    }
+}
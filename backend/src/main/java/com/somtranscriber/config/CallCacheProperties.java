@@ -0,0 +1,18 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.call-cache")
+public record CallCacheProperties(
+        boolean enabled,
+        long maxWeightBytes,
+        int compressAboveBytes,
+        Duration nearTtl,
+        boolean redisEnabled,
+        Duration redisTtl,
+        String keyPrefix,
+        String invalidationChannel
+) {
+}
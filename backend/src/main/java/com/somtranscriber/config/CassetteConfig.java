@@ -0,0 +1,50 @@
+package com.somtranscriber.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.somtranscriber.processing.cassette.CassetteRecorder;
+import com.somtranscriber.processing.cassette.CassetteReplayer;
+import com.somtranscriber.processing.cassette.ProviderCassette;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class CassetteConfig {
+
+    @Configuration
+    @ConditionalOnProperty(value = "app.cassette.mode", havingValue = "record")
+    static class Recording {
+
+        @Bean(destroyMethod = "save")
+        public ProviderCassette providerCassette(CassetteProperties properties, ObjectMapper objectMapper) {
+            return ProviderCassette.create(Path.of(properties.path()), objectMapper);
+        }
+
+        @Bean
+        public RestClientCustomizer cassetteRecorder(ProviderCassette cassette) {
+            return builder -> builder.requestInterceptor(new CassetteRecorder(cassette));
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(value = "app.cassette.mode", havingValue = "replay")
+    static class Replay {
+
+        @Bean(destroyMethod = "")
+        public ProviderCassette providerCassette(CassetteProperties properties, ObjectMapper objectMapper) {
+            return ProviderCassette.load(Path.of(properties.path()), objectMapper);
+        }
+
+        @Bean
+        public RestClientCustomizer cassetteReplayer(ProviderCassette cassette,
+                                                     CassetteProperties properties,
+                                                     MeterRegistry meterRegistry) {
+            return builder -> builder.requestInterceptor(
+                    new CassetteReplayer(cassette, properties.latencyScale(), meterRegistry));
+        }
+    }
+}
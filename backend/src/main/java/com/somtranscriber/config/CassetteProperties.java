@@ -0,0 +1,11 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.cassette")
+public record CassetteProperties(
+        String mode,
+        String path,
+        double latencyScale
+) {
+}
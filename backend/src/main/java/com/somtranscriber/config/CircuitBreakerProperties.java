@@ -0,0 +1,34 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.circuit-breaker")
+public record CircuitBreakerProperties(
+        boolean enabled,
+        int windowSize,
+        int minimumCalls,
+        double failureRateThreshold,
+        Duration openDuration,
+        int halfOpenProbes
+) {
+
+    public CircuitBreakerProperties {
+        if (windowSize < 1) {
+            windowSize = 20;
+        }
+        if (minimumCalls < 1 || minimumCalls > windowSize) {
+            minimumCalls = Math.min(10, windowSize);
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            failureRateThreshold = 0.5;
+        }
+        if (openDuration == null) {
+            openDuration = Duration.ofSeconds(30);
+        }
+        if (halfOpenProbes < 1) {
+            halfOpenProbes = 3;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.somtranscriber.config;
+
+import com.somtranscriber.processing.service.FaithfulnessChecker;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FaithfulnessConfig {
+
+    @Bean
+    public FaithfulnessChecker faithfulnessChecker(FaithfulnessProperties properties) {
+        if (properties.highRiskTerms() == null || properties.highRiskTerms().isEmpty()) {
+            return new FaithfulnessChecker(FaithfulnessChecker.DEFAULT_TERMS);
+        }
+        return new FaithfulnessChecker(properties.highRiskTerms());
+    }
+}
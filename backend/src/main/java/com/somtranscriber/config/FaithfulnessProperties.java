@@ -0,0 +1,11 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.faithfulness")
+public record FaithfulnessProperties(
+        List<String> highRiskTerms
+) {
+}
@@ -0,0 +1,38 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.hedging")
+public record HedgingProperties(
+        boolean enabled,
+        double quantile,
+        Duration minDelay,
+        double budgetRatio,
+        int budgetBurst,
+        int minSamples,
+        int window
+) {
+
+    public HedgingProperties {
+        if (quantile <= 0 || quantile >= 1) {
+            quantile = 0.95;
+        }
+        if (minDelay == null) {
+            minDelay = Duration.ofMillis(200);
+        }
+        if (budgetRatio <= 0) {
+            budgetRatio = 0.05;
+        }
+        if (budgetBurst < 1) {
+            budgetBurst = 10;
+        }
+        if (minSamples < 1) {
+            minSamples = 50;
+        }
+        if (window < minSamples) {
+            window = Math.max(512, minSamples);
+        }
+    }
+}
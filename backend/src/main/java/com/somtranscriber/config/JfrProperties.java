@@ -0,0 +1,16 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.jfr")
+public record JfrProperties(
+        boolean continuous,
+        String settings,
+        Duration maxAge,
+        DataSize maxSize,
+        String dumpDir
+) {
+}
@@ -0,0 +1,12 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.partitions")
+public record PartitionProperties(
+        boolean enabled,
+        int monthsAhead,
+        int jobAttemptRetentionMonths,
+        String archiveSchema
+) {
+}
@@ -0,0 +1,14 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.password-hashing")
+public record PasswordHashingProperties(
+        int threads,
+        int queueCapacity,
+        Duration queueTimeout,
+        Duration hashTimeout
+) {
+}
@@ -0,0 +1,33 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.pipeline-budget")
+public record PipelineBudgetProperties(
+        Duration total,
+        Duration transcription,
+        Duration translation,
+        Duration formatting,
+        Duration formattingMinRemaining
+) {
+
+    public PipelineBudgetProperties {
+        if (total == null) {
+            total = Duration.ofSeconds(80);
+        }
+        if (transcription == null) {
+            transcription = Duration.ofSeconds(60);
+        }
+        if (translation == null) {
+            translation = Duration.ofSeconds(20);
+        }
+        if (formatting == null) {
+            formatting = Duration.ofSeconds(30);
+        }
+        if (formattingMinRemaining == null) {
+            formattingMinRemaining = Duration.ofSeconds(5);
+        }
+    }
+}
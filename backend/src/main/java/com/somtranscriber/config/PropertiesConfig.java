@@ -4,6 +4,24 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(AppProperties.class)
+@EnableConfigurationProperties({
+        AppProperties.class,
+        AuthProperties.class,
+        CallCacheProperties.class,
+        CassetteProperties.class,
+        CircuitBreakerProperties.class,
+        FaithfulnessProperties.class,
+        HedgingProperties.class,
+        JfrProperties.class,
+        PasswordHashingProperties.class,
+        PartitionProperties.class,
+        PipelineBudgetProperties.class,
+        ProviderEndpointsProperties.class,
+        ProviderRateLimitProperties.class,
+        RefreshTokenPurgeProperties.class,
+        ReplicaProperties.class,
+        RunProperties.class,
+        UploadPipelineProperties.class
+})
 public class PropertiesConfig {
 }
@@ -0,0 +1,30 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.provider-endpoints")
+public record ProviderEndpointsProperties(
+        List<String> openai,
+        List<String> ollama,
+        Duration latencyDecay,
+        int ejectAfterFailures,
+        Duration ejectDuration
+) {
+
+    public ProviderEndpointsProperties {
+        openai = openai == null ? List.of() : List.copyOf(openai);
+        ollama = ollama == null ? List.of() : List.copyOf(ollama);
+        if (latencyDecay == null || latencyDecay.isZero() || latencyDecay.isNegative()) {
+            latencyDecay = Duration.ofSeconds(10);
+        }
+        if (ejectAfterFailures < 1) {
+            ejectAfterFailures = 5;
+        }
+        if (ejectDuration == null) {
+            ejectDuration = Duration.ofSeconds(30);
+        }
+    }
+}
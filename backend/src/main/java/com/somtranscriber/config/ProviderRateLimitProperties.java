@@ -0,0 +1,39 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.provider-rate-limit")
+public record ProviderRateLimitProperties(
+        boolean enabled,
+        String keyPrefix,
+        Duration maxWait,
+        Duration defaultRetryAfter,
+        Limit transcription,
+        Limit translation
+) {
+
+    public ProviderRateLimitProperties {
+        if (keyPrefix == null || keyPrefix.isBlank()) {
+            keyPrefix = "provider-rate-limit";
+        }
+        if (maxWait == null) {
+            maxWait = Duration.ofSeconds(20);
+        }
+        if (defaultRetryAfter == null || defaultRetryAfter.isZero() || defaultRetryAfter.isNegative()) {
+            defaultRetryAfter = Duration.ofSeconds(5);
+        }
+        if (transcription == null) {
+            transcription = new Limit(0, 0);
+        }
+        if (translation == null) {
+            translation = new Limit(0, 0);
+        }
+    }
+
+    public record Limit(
+            int requestsPerMinute,
+            long tokensPerMinute
+    ) {}
+}
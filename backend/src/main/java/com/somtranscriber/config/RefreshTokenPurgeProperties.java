@@ -0,0 +1,14 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.auth.purge")
+public record RefreshTokenPurgeProperties(
+        boolean enabled,
+        int chunkSize,
+        int maxChunksPerRun,
+        Duration revokedRetention
+) {
+}
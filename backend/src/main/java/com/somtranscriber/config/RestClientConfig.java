@@ -0,0 +1,31 @@
+package com.somtranscriber.config;
+
+import com.somtranscriber.processing.adapter.DeadlineRequestFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class RestClientConfig {
+
+    @Bean
+    public HttpClient providerHttpClient(Environment environment) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10));
+        if (Threading.VIRTUAL.isActive(environment)) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public RestClientCustomizer providerRequestFactory(HttpClient providerHttpClient) {
+        return builder -> builder.requestFactory(new DeadlineRequestFactory(providerHttpClient));
+    }
+}
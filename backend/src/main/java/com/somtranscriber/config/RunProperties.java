@@ -0,0 +1,13 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.run")
+public record RunProperties(RunRole role) {
+
+    public RunProperties {
+        if (role == null) {
+            role = RunRole.BOTH;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.somtranscriber.config;
+
+public enum RunRole {
+    API,
+    WORKER,
+    BOTH;
+
+    public boolean servesApi() {
+        return this != WORKER;
+    }
+
+    public boolean runsPipeline() {
+        return this != API;
+    }
+}
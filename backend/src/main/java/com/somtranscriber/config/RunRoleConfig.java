@@ -0,0 +1,19 @@
+package com.somtranscriber.config;
+
+import com.somtranscriber.common.web.ActuatorOnlyFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class RunRoleConfig {
+
+    @Bean
+    public FilterRegistrationBean<ActuatorOnlyFilter> actuatorOnlyFilter(RunProperties runProperties) {
+        FilterRegistrationBean<ActuatorOnlyFilter> registration = new FilterRegistrationBean<>(new ActuatorOnlyFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(!runProperties.role().servesApi());
+        return registration;
+    }
+}
@@ -0,0 +1,39 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Locale;
+import java.util.Map;
+
+public class RunRoleEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE = "runRole";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Map<String, Object> overrides = switch (role(environment)) {
+            case API -> Map.of("app.retry.worker.enabled", "false");
+            case WORKER -> Map.of(
+                    "app.retry.worker.enabled", "true",
+                    "server.tomcat.threads.max", "4",
+                    "server.tomcat.threads.min-spare", "1"
+            );
+            case BOTH -> Map.of();
+        };
+        if (!overrides.isEmpty()) {
+            environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE, overrides));
+        }
+    }
+
+    static RunRole role(ConfigurableEnvironment environment) {
+        String value = environment.getProperty("app.run.role", "both").trim();
+        try {
+            return RunRole.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalStateException("Unknown app.run.role '" + value + "', expected api, worker or both");
+        }
+    }
+}
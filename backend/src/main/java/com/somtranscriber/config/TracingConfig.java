@@ -0,0 +1,16 @@
+package com.somtranscriber.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(value = "management.tracing.enabled", havingValue = "true")
+public class TracingConfig {
+
+    public TracingConfig(@Value("${management.otlp.tracing.endpoint:}") String endpoint) {
+        if (endpoint.isBlank()) {
+            throw new IllegalStateException("OTLP_TRACING_ENDPOINT must be set when TRACING_ENABLED is true");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.somtranscriber.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.upload-pipeline")
+public record UploadPipelineProperties(
+        int threads,
+        int queueCapacity,
+        Duration deadline
+) {
+
+    public UploadPipelineProperties {
+        if (threads < 1) {
+            threads = 8;
+        }
+        if (queueCapacity < 1) {
+            queueCapacity = 32;
+        }
+        if (deadline == null) {
+            deadline = Duration.ofSeconds(90);
+        }
+    }
+}
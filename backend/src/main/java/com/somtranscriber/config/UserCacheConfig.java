@@ -0,0 +1,38 @@
+package com.somtranscriber.config;
+
+import com.somtranscriber.auth.service.ActiveUserCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+@Configuration
+@ConditionalOnProperty(value = "app.auth.user-cache-redis-invalidation", havingValue = "true")
+public class UserCacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCacheConfig.class);
+
+    @Bean
+    public RedisMessageListenerContainer userCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       ActiveUserCache activeUserCache,
+                                                                       AuthProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                activeUserCache.evictLocal(UUID.fromString(body));
+            } catch (IllegalArgumentException exception) {
+                log.warn("Ignoring malformed user cache invalidation: {}", body);
+            }
+        }, new ChannelTopic(properties.userCacheInvalidationChannel()));
+        return container;
+    }
+}
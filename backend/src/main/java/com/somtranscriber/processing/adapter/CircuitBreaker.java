@@ -0,0 +1,229 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.config.CircuitBreakerProperties;
+import com.somtranscriber.processing.service.DeadlineExceededException;
+import com.somtranscriber.processing.service.ProviderUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String adapter;
+    private final CircuitBreakerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(String adapter, CircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.adapter = adapter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.window = new boolean[properties.windowSize()];
+        this.rejected = meterRegistry.counter("calls.provider.circuit.rejected.total", "adapter", adapter);
+        Gauge.builder("calls.provider.circuit.state", this, breaker -> breaker.state().ordinal())
+                .tag("adapter", adapter)
+                .description("0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> work) {
+        if (!properties.enabled()) {
+            return work.get();
+        }
+        boolean probe = acquire();
+        boolean recorded = false;
+        try {
+            T result = work.get();
+            recorded = true;
+            onSuccess(probe);
+            return result;
+        } catch (ProviderUnavailableException exception) {
+            throw exception;
+        } catch (DeadlineExceededException exception) {
+            if (exception.isRequestSent()) {
+                recorded = true;
+                onFailure(probe);
+            }
+            throw exception;
+        } catch (RuntimeException exception) {
+            recorded = true;
+            if (isProviderFailure(exception)) {
+                onFailure(probe);
+            } else {
+                onSuccess(probe);
+            }
+            throw exception;
+        } finally {
+            if (!recorded) {
+                release(probe);
+            }
+        }
+    }
+
+    public State state() {
+        lock.lock();
+        try {
+            return currentState();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration unavailableFor() {
+        lock.lock();
+        try {
+            State current = currentState();
+            if (current == State.HALF_OPEN && probesInFlight + probeSuccesses >= properties.halfOpenProbes()) {
+                return properties.openDuration();
+            }
+            if (current != State.OPEN) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos(Math.max(0, openUntilNanos - System.nanoTime()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquire() {
+        lock.lock();
+        try {
+            State current = currentState();
+            if (current == State.CLOSED) {
+                return false;
+            }
+            if (current == State.HALF_OPEN && probesInFlight + probeSuccesses < properties.halfOpenProbes()) {
+                probesInFlight++;
+                return true;
+            }
+            rejected.increment();
+            Duration retryAfter = current == State.OPEN
+                    ? Duration.ofNanos(Math.max(0, openUntilNanos - System.nanoTime()))
+                    : properties.openDuration();
+            throw new ProviderUnavailableException("Circuit for " + adapter + " is " + current.name().toLowerCase(Locale.ROOT), retryAfter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess(boolean probe) {
+        lock.lock();
+        try {
+            if (probe) {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                if (state == State.HALF_OPEN && ++probeSuccesses >= properties.halfOpenProbes()) {
+                    transition(State.CLOSED);
+                }
+                return;
+            }
+            if (state == State.CLOSED) {
+                recordOutcome(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(boolean probe) {
+        if (!probe) {
+            return;
+        }
+        lock.lock();
+        try {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFailure(boolean probe) {
+        lock.lock();
+        try {
+            if (probe) {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                if (state == State.HALF_OPEN) {
+                    transition(State.OPEN);
+                }
+                return;
+            }
+            if (state != State.CLOSED) {
+                return;
+            }
+            recordOutcome(true);
+            if (windowCount >= properties.minimumCalls()
+                    && (double) windowFailures / windowCount >= properties.failureRateThreshold()) {
+                transition(State.OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private State currentState() {
+        if (state == State.OPEN && System.nanoTime() - openUntilNanos >= 0) {
+            transition(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transition(State next) {
+        State previous = state;
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openUntilNanos = System.nanoTime() + properties.openDuration().toNanos();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+        meterRegistry.counter("calls.provider.circuit.transitions.total",
+                "adapter", adapter, "from", previous.name().toLowerCase(Locale.ROOT), "to", next.name().toLowerCase(Locale.ROOT)).increment();
+        log.warn("Circuit for {} moved from {} to {}", adapter, previous, next);
+    }
+
+    private static boolean isProviderFailure(RuntimeException exception) {
+        return !(exception instanceof HttpClientErrorException clientError)
+                || clientError.getStatusCode().value() == 429;
+    }
+}
@@ -0,0 +1,43 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.DeadlineExceededException;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+public class DeadlineRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpClient httpClient;
+    private final Executor executor;
+    private final JdkClientHttpRequestFactory unbounded;
+
+    public DeadlineRequestFactory(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        this.executor = httpClient.executor().orElseGet(SimpleAsyncTaskExecutor::new);
+        this.unbounded = new JdkClientHttpRequestFactory(httpClient, executor);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        Deadline deadline = Deadline.current();
+        if (!deadline.isBounded()) {
+            return unbounded.createRequest(uri, httpMethod);
+        }
+        Duration remaining = deadline.remaining();
+        if (remaining.isZero()) {
+            throw DeadlineExceededException.beforeSend("Deadline passed before the request to " + uri.getHost() + " was sent");
+        }
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient, executor);
+        factory.setReadTimeout(remaining);
+        return factory.createRequest(uri, httpMethod);
+    }
+}
@@ -0,0 +1,196 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.config.ProviderEndpointsProperties;
+import com.somtranscriber.processing.service.DeadlineExceededException;
+import com.somtranscriber.processing.service.ProviderUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+public class EndpointBalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointBalancer.class);
+
+    private final String adapter;
+    private final ProviderEndpointsProperties properties;
+    private final List<Endpoint> endpoints;
+
+    EndpointBalancer(String adapter,
+                     List<String> baseUrls,
+                     ProviderEndpointsProperties properties,
+                     MeterRegistry meterRegistry) {
+        this.adapter = adapter;
+        this.properties = properties;
+        this.endpoints = baseUrls.stream()
+                .map(baseUrl -> new Endpoint(baseUrl, meterRegistry))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    public <T> T call(Function<String, T> request) {
+        Endpoint endpoint = select();
+        endpoint.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            T result = request.apply(endpoint.baseUrl);
+            endpoint.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException exception) {
+            endpoint.onFailure(System.nanoTime() - start, isEndpointFailure(exception));
+            throw exception;
+        } finally {
+            endpoint.inFlight.decrementAndGet();
+        }
+    }
+
+    Endpoint select() {
+        if (endpoints.isEmpty()) {
+            throw new IllegalStateException("No endpoints configured for " + adapter);
+        }
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+        long now = System.nanoTime();
+        List<Endpoint> candidates = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.isEjected(now)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = endpoints;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = candidates.get(first);
+        Endpoint b = candidates.get(second);
+        return a.cost() <= b.cost() ? a : b;
+    }
+
+    private static boolean isEndpointFailure(RuntimeException exception) {
+        if (HedgedExecutor.isCancelled()) {
+            return false;
+        }
+        if (exception instanceof ProviderUnavailableException) {
+            return false;
+        }
+        if (exception instanceof DeadlineExceededException deadline && !deadline.isRequestSent()) {
+            return false;
+        }
+        return !(exception instanceof HttpClientErrorException clientError)
+                || clientError.getStatusCode().value() == 429;
+    }
+
+    final class Endpoint {
+
+        private final String baseUrl;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Counter successes;
+        private final Counter failures;
+        private final Counter ejections;
+        private volatile long latencyNanos;
+        private volatile long observedAt = System.nanoTime();
+        private int consecutiveFailures;
+        private volatile long ejectedUntilNanos;
+        private volatile boolean ejected;
+
+        private Endpoint(String baseUrl, MeterRegistry meterRegistry) {
+            this.baseUrl = baseUrl;
+            this.successes = meterRegistry.counter("calls.provider.endpoint.requests.total",
+                    "adapter", adapter, "endpoint", baseUrl, "outcome", "success");
+            this.failures = meterRegistry.counter("calls.provider.endpoint.requests.total",
+                    "adapter", adapter, "endpoint", baseUrl, "outcome", "failure");
+            this.ejections = meterRegistry.counter("calls.provider.endpoint.ejections.total",
+                    "adapter", adapter, "endpoint", baseUrl);
+            TimeGauge.builder("calls.provider.endpoint.latency", this, TimeUnit.NANOSECONDS, endpoint -> endpoint.latencyNanos)
+                    .tags("adapter", adapter, "endpoint", baseUrl)
+                    .register(meterRegistry);
+            Gauge.builder("calls.provider.endpoint.inflight", inFlight, AtomicInteger::get)
+                    .tags("adapter", adapter, "endpoint", baseUrl)
+                    .register(meterRegistry);
+            Gauge.builder("calls.provider.endpoint.ejected", this, endpoint -> endpoint.isEjected(System.nanoTime()) ? 1 : 0)
+                    .tags("adapter", adapter, "endpoint", baseUrl)
+                    .register(meterRegistry);
+        }
+
+        String baseUrl() {
+            return baseUrl;
+        }
+
+        double cost() {
+            double idle = System.nanoTime() - observedAt;
+            double latency = latencyNanos * Math.exp(-idle / properties.latencyDecay().toNanos());
+            return (latency + 1) * (inFlight.get() + 1);
+        }
+
+        boolean isEjected(long now) {
+            return ejected && now - ejectedUntilNanos < 0;
+        }
+
+        private void onSuccess(long elapsedNanos) {
+            successes.increment();
+            lock.lock();
+            try {
+                consecutiveFailures = 0;
+                observe(elapsedNanos);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void onFailure(long elapsedNanos, boolean endpointFailure) {
+            lock.lock();
+            try {
+                if (!endpointFailure) {
+                    observe(elapsedNanos);
+                    return;
+                }
+                failures.increment();
+                observe(Math.max(elapsedNanos, latencyNanos * 2));
+                if (++consecutiveFailures >= properties.ejectAfterFailures() && !isEjected(System.nanoTime())) {
+                    ejectedUntilNanos = System.nanoTime() + properties.ejectDuration().toNanos();
+                    ejected = true;
+                    consecutiveFailures = 0;
+                    ejections.increment();
+                    log.warn("Ejecting {} endpoint {} for {}", adapter, baseUrl, properties.ejectDuration());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void observe(long rttNanos) {
+            long now = System.nanoTime();
+            if (rttNanos > latencyNanos) {
+                latencyNanos = rttNanos;
+            } else {
+                double weight = Math.exp(-(double) (now - observedAt) / properties.latencyDecay().toNanos());
+                latencyNanos = (long) (latencyNanos * weight + rttNanos * (1 - weight));
+            }
+            observedAt = now;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.config.HedgingProperties;
+import com.somtranscriber.processing.service.Deadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+public class HedgedExecutor {
+
+    private static final long BUDGET_UNIT = 1_000;
+    private static final int RECOMPUTE_EVERY = 32;
+    private static final ThreadLocal<Race<?>> CURRENT_RACE = new ThreadLocal<>();
+
+    private final HedgingProperties properties;
+    private final ExecutorService executor;
+    private final AtomicLongArray samples;
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong thresholdNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong budget;
+    private final long budgetDeposit;
+    private final long budgetCap;
+    private final Counter calls;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+    private final Counter budgetExhausted;
+
+    HedgedExecutor(String adapter, HedgingProperties properties, ExecutorService executor, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.executor = executor;
+        this.samples = new AtomicLongArray(properties.window());
+        this.budgetDeposit = Math.round(properties.budgetRatio() * BUDGET_UNIT);
+        this.budgetCap = properties.budgetBurst() * BUDGET_UNIT;
+        this.budget = new AtomicLong(budgetCap);
+        this.calls = meterRegistry.counter("calls.provider.hedge.calls.total", "adapter", adapter);
+        this.hedges = meterRegistry.counter("calls.provider.hedge.sent.total", "adapter", adapter);
+        this.hedgeWins = meterRegistry.counter("calls.provider.hedge.wins.total", "adapter", adapter);
+        this.budgetExhausted = meterRegistry.counter("calls.provider.hedge.budget.exhausted.total", "adapter", adapter);
+        TimeGauge.builder("calls.provider.hedge.threshold", this, TimeUnit.NANOSECONDS, HedgedExecutor::thresholdForGauge)
+                .tag("adapter", adapter)
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Deadline deadline, Supplier<T> request) {
+        if (!properties.enabled()) {
+            return deadline.run(request);
+        }
+        calls.increment();
+        depositBudget();
+
+        Race<T> race = new Race<>();
+        Future<?> primary = launch(race, deadline, request, false);
+        Future<?> hedge = null;
+        try {
+            long delay = thresholdNanos.get();
+            if (delay == Long.MAX_VALUE) {
+                return race.result.get();
+            }
+            try {
+                return race.result.get(delay, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException exception) {
+                if (!deadline.hasAtLeast(Duration.ofNanos(delay)) || !withdrawBudget()) {
+                    return race.result.get();
+                }
+                hedges.increment();
+                hedge = launch(race, deadline, request, true);
+                T result = race.result.get();
+                if (race.hedgeWon) {
+                    hedgeWins.increment();
+                }
+                return result;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for provider response", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Provider request failed", exception.getCause());
+        } finally {
+            race.cancelled = true;
+            for (Future<?> attempt : Arrays.asList(primary, hedge)) {
+                if (attempt != null) {
+                    attempt.cancel(true);
+                }
+            }
+        }
+    }
+
+    private <T> Future<?> launch(Race<T> race, Deadline deadline, Supplier<T> request, boolean hedge) {
+        race.pending.incrementAndGet();
+        return executor.submit(() -> {
+            CURRENT_RACE.set(race);
+            try {
+                T value = deadline.run(request);
+                if (race.settled.compareAndSet(false, true)) {
+                    race.hedgeWon = hedge;
+                    record(System.nanoTime() - race.startedAt);
+                    race.result.complete(value);
+                }
+            } catch (RuntimeException | Error exception) {
+                if (race.pending.decrementAndGet() == 0) {
+                    race.result.completeExceptionally(exception);
+                }
+            } finally {
+                CURRENT_RACE.remove();
+            }
+        });
+    }
+
+    static boolean isCancelled() {
+        Race<?> race = CURRENT_RACE.get();
+        return race != null && race.cancelled;
+    }
+
+    private void record(long latencyNanos) {
+        long count = sampleCount.getAndIncrement();
+        samples.set((int) (count % samples.length()), latencyNanos);
+        long recorded = count + 1;
+        if (recorded >= properties.minSamples() && recorded % RECOMPUTE_EVERY == 0) {
+            int size = (int) Math.min(recorded, samples.length());
+            long[] snapshot = new long[size];
+            for (int i = 0; i < size; i++) {
+                snapshot[i] = samples.get(i);
+            }
+            Arrays.sort(snapshot);
+            long quantile = snapshot[(int) Math.min(size - 1, Math.ceil(properties.quantile() * size) - 1)];
+            thresholdNanos.set(Math.max(quantile, properties.minDelay().toNanos()));
+        }
+    }
+
+    private void depositBudget() {
+        budget.accumulateAndGet(budgetDeposit, (current, deposit) -> Math.min(budgetCap, current + deposit));
+    }
+
+    private boolean withdrawBudget() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < BUDGET_UNIT) {
+                budgetExhausted.increment();
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - BUDGET_UNIT));
+        return true;
+    }
+
+    private double thresholdForGauge() {
+        long threshold = thresholdNanos.get();
+        return threshold == Long.MAX_VALUE ? 0 : threshold;
+    }
+
+    private static final class Race<T> {
+        private final long startedAt = System.nanoTime();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean hedgeWon;
+        private volatile boolean cancelled;
+    }
+}
@@ -1,14 +1,18 @@
 package com.somtranscriber.processing.adapter;
 
+import com.somtranscriber.common.jfr.AudioStoreEvent;
 import com.somtranscriber.config.AppProperties;
 import com.somtranscriber.processing.service.AudioStorageService;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.UUID;
 
 @Service
@@ -37,8 +41,22 @@ public class LocalAudioStorageService implements AudioStorageService {
         String key = UUID.randomUUID() + extension;
         Path target = root.resolve(key);
 
-        try {
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
+        AudioStoreEvent event = new AudioStoreEvent();
+        event.begin();
+        try (InputStream input = file.getInputStream();
+             FileChannel channel = FileChannel.open(target,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long writeStart = System.nanoTime();
+            long bytes = input.transferTo(Channels.newOutputStream(channel));
+            long writeNanos = System.nanoTime() - writeStart;
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.key = key;
+                event.bytes = bytes;
+                event.writeNanos = writeNanos;
+                event.commit();
+            }
             return key;
         } catch (IOException exception) {
             throw new IllegalStateException("Unable to store uploaded audio", exception);
@@ -3,11 +3,15 @@ package com.somtranscriber.processing.adapter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.DeadlineExceededException;
 import com.somtranscriber.processing.service.FormatterAdapter;
+import com.somtranscriber.processing.service.ProviderUnavailableException;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.util.Map;
 
 @Component
@@ -29,20 +33,28 @@ public class OllamaFormatterAdapter implements FormatterAdapter {
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
     private final AppProperties appProperties;
+    private final CircuitBreaker circuitBreaker;
+    private final EndpointBalancer endpoints;
 
-    public OllamaFormatterAdapter(RestClient.Builder builder, ObjectMapper objectMapper, AppProperties appProperties) {
+    public OllamaFormatterAdapter(RestClient.Builder builder,
+                                  ObjectMapper objectMapper,
+                                  AppProperties appProperties,
+                                  ProviderCircuitBreakers circuitBreakers,
+                                  ProviderEndpoints providerEndpoints) {
         this.restClient = builder.build();
+        this.circuitBreaker = circuitBreakers.breaker("formatter");
+        this.endpoints = providerEndpoints.ollama("formatter");
         this.objectMapper = objectMapper;
         this.appProperties = appProperties;
     }
 
     @Override
-    public String format(String rawEnglishTranscript) {
+    public String format(String rawEnglishTranscript, Deadline deadline) {
         if (rawEnglishTranscript == null || rawEnglishTranscript.isBlank()) {
             throw new IllegalArgumentException("Transcript cannot be empty");
         }
 
-        if (appProperties.ollama().baseUrl() == null || appProperties.ollama().baseUrl().isBlank()) {
+        if (endpoints.isEmpty()) {
             return rawEnglishTranscript;
         }
 
@@ -54,12 +66,12 @@ public class OllamaFormatterAdapter implements FormatterAdapter {
         );
 
         try {
-            String json = restClient.post()
-                    .uri(appProperties.ollama().baseUrl() + "/api/generate")
+            String json = circuitBreaker.call(() -> deadline.run(() -> endpoints.call(baseUrl -> restClient.post()
+                    .uri(baseUrl + "/api/generate")
                     .contentType(MediaType.APPLICATION_JSON)
                     .body(payload)
                     .retrieve()
-                    .body(String.class);
+                    .body(String.class))));
 
             JsonNode root = objectMapper.readTree(json);
             String response = root.path("response").asText();
@@ -67,8 +79,23 @@ public class OllamaFormatterAdapter implements FormatterAdapter {
                 throw new IllegalStateException("Ollama returned empty response");
             }
             return response.trim();
+        } catch (DeadlineExceededException | ProviderUnavailableException exception) {
+            throw exception;
         } catch (Exception exception) {
             throw new IllegalStateException("Formatter request failed", exception);
         }
     }
+
+    @Override
+    public Duration unavailableFor() {
+        return circuitBreaker.unavailableFor();
+    }
+
+    @Override
+    public String model() {
+        if (endpoints.isEmpty()) {
+            return "passthrough";
+        }
+        return appProperties.ollama().model();
+    }
 }
@@ -3,6 +3,9 @@ package com.somtranscriber.processing.adapter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.DeadlineExceededException;
+import com.somtranscriber.processing.service.ProviderUnavailableException;
 import com.somtranscriber.processing.service.TranscriptionAdapter;
 import com.somtranscriber.processing.service.TranscriptionResult;
 import org.slf4j.Logger;
@@ -26,15 +29,29 @@ public class OpenAiTranscriptionAdapter implements TranscriptionAdapter {
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
     private final AppProperties appProperties;
+    private final HedgedExecutor hedged;
+    private final CircuitBreaker circuitBreaker;
+    private final EndpointBalancer endpoints;
+    private final RateLimiter rateLimiter;
 
-    public OpenAiTranscriptionAdapter(RestClient.Builder builder, ObjectMapper objectMapper, AppProperties appProperties) {
+    public OpenAiTranscriptionAdapter(RestClient.Builder builder,
+                                      ObjectMapper objectMapper,
+                                      AppProperties appProperties,
+                                      ProviderHedging hedging,
+                                      ProviderCircuitBreakers circuitBreakers,
+                                      ProviderEndpoints providerEndpoints,
+                                      ProviderRateLimiters rateLimiters) {
         this.restClient = builder.build();
+        this.hedged = hedging.executor("transcription");
+        this.circuitBreaker = circuitBreakers.breaker("transcription");
+        this.endpoints = providerEndpoints.openai("transcription");
+        this.rateLimiter = rateLimiters.limiter("transcription");
         this.objectMapper = objectMapper;
         this.appProperties = appProperties;
     }
 
     @Override
-    public TranscriptionResult transcribe(Path filePath, String mimeType) {
+    public TranscriptionResult transcribe(Path filePath, String mimeType, Deadline deadline) {
         Instant start = Instant.now();
 
         if (appProperties.openai().apiKey() == null || appProperties.openai().apiKey().isBlank()) {
@@ -48,13 +65,16 @@ public class OpenAiTranscriptionAdapter implements TranscriptionAdapter {
             body.add("response_format", "json");
             body.add("file", new FileSystemResource(filePath));
 
-            String rawResponse = restClient.post()
-                    .uri(appProperties.openai().baseUrl() + "/v1/audio/transcriptions")
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .header("Authorization", "Bearer " + appProperties.openai().apiKey())
-                    .body(body)
-                    .retrieve()
-                    .body(String.class);
+            String rawResponse = circuitBreaker.call(() -> {
+                rateLimiter.acquire(0, deadline);
+                return hedged.call(deadline, () -> endpoints.call(baseUrl -> rateLimiter.exchange(() -> restClient.post()
+                        .uri(baseUrl + "/v1/audio/transcriptions")
+                        .contentType(MediaType.MULTIPART_FORM_DATA)
+                        .header("Authorization", "Bearer " + appProperties.openai().apiKey())
+                        .body(body)
+                        .retrieve()
+                        .toEntity(String.class))));
+            });
 
             String text;
             String language = "unknown";
@@ -72,12 +92,21 @@ public class OpenAiTranscriptionAdapter implements TranscriptionAdapter {
 
             long latencyMs = Duration.between(start, Instant.now()).toMillis();
             return new TranscriptionResult(language, text, appProperties.openai().model(), latencyMs);
+        } catch (DeadlineExceededException | ProviderUnavailableException exception) {
+            throw exception;
         } catch (Exception exception) {
             log.warn("OpenAI transcription failed, using fallback transcript", exception);
             return fallbackResult(start, "OpenAI transcription request failed");
         }
     }
 
+    @Override
+    public Duration unavailableFor() {
+        Duration open = circuitBreaker.unavailableFor();
+        Duration paused = rateLimiter.pausedFor();
+        return open.compareTo(paused) >= 0 ? open : paused;
+    }
+
     private TranscriptionResult fallbackResult(Instant start, String reason) {
         String text = reason + ", using transcript fallback for local development.";
         long latencyMs = Duration.between(start, Instant.now()).toMillis();
@@ -3,6 +3,9 @@ package com.somtranscriber.processing.adapter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.DeadlineExceededException;
+import com.somtranscriber.processing.service.ProviderUnavailableException;
 import com.somtranscriber.processing.service.TranslationAdapter;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -10,6 +13,7 @@ import org.springframework.web.client.RestClient;
 
 import java.util.List;
 import java.util.Locale;
+import java.time.Duration;
 import java.util.Map;
 
 @Component
@@ -28,15 +32,29 @@ public class OpenAiTranslationAdapter implements TranslationAdapter {
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
     private final AppProperties appProperties;
-
-    public OpenAiTranslationAdapter(RestClient.Builder builder, ObjectMapper objectMapper, AppProperties appProperties) {
+    private final HedgedExecutor hedged;
+    private final CircuitBreaker circuitBreaker;
+    private final EndpointBalancer endpoints;
+    private final RateLimiter rateLimiter;
+
+    public OpenAiTranslationAdapter(RestClient.Builder builder,
+                                    ObjectMapper objectMapper,
+                                    AppProperties appProperties,
+                                    ProviderHedging hedging,
+                                    ProviderCircuitBreakers circuitBreakers,
+                                    ProviderEndpoints providerEndpoints,
+                                    ProviderRateLimiters rateLimiters) {
         this.restClient = builder.build();
+        this.hedged = hedging.executor("translation");
+        this.circuitBreaker = circuitBreakers.breaker("translation");
+        this.endpoints = providerEndpoints.openai("translation");
+        this.rateLimiter = rateLimiters.limiter("translation");
         this.objectMapper = objectMapper;
         this.appProperties = appProperties;
     }
 
     @Override
-    public String translateToEnglish(String sourceText, String detectedLanguage) {
+    public String translateToEnglish(String sourceText, String detectedLanguage, Deadline deadline) {
         if (sourceText == null || sourceText.isBlank()) {
             throw new IllegalArgumentException("Source text cannot be empty");
         }
@@ -54,34 +72,58 @@ public class OpenAiTranslationAdapter implements TranslationAdapter {
             translationModel = "gpt-4o-mini";
         }
 
+        String userPrompt = buildUserPrompt(sourceText, detectedLanguage);
+        // about four characters per token, and the reply is roughly as long as the prompt
+        long estimatedTokens = (SYSTEM_PROMPT.length() + userPrompt.length()) / 2L;
         Map<String, Object> payload = Map.of(
                 "model", translationModel,
                 "temperature", 0.0,
                 "messages", List.of(
                         Map.of("role", "system", "content", SYSTEM_PROMPT),
-                        Map.of("role", "user", "content", buildUserPrompt(sourceText, detectedLanguage))
+                        Map.of("role", "user", "content", userPrompt)
                 )
         );
 
         try {
-            String rawResponse = restClient.post()
-                    .uri(appProperties.openai().baseUrl() + "/v1/chat/completions")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .header("Authorization", "Bearer " + appProperties.openai().apiKey())
-                    .body(payload)
-                    .retrieve()
-                    .body(String.class);
+            String rawResponse = circuitBreaker.call(() -> {
+                rateLimiter.acquire(estimatedTokens, deadline);
+                return hedged.call(deadline, () -> endpoints.call(baseUrl -> rateLimiter.exchange(() -> restClient.post()
+                        .uri(baseUrl + "/v1/chat/completions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + appProperties.openai().apiKey())
+                        .body(payload)
+                        .retrieve()
+                        .toEntity(String.class))));
+            });
 
             String translated = extractTranslatedText(rawResponse);
             if (translated == null || translated.isBlank()) {
                 throw new IllegalStateException("OpenAI translation returned empty text");
             }
             return translated.trim();
+        } catch (DeadlineExceededException | ProviderUnavailableException exception) {
+            throw exception;
         } catch (Exception exception) {
             throw new IllegalStateException("OpenAI translation request failed", exception);
         }
     }
 
+    @Override
+    public Duration unavailableFor() {
+        Duration open = circuitBreaker.unavailableFor();
+        Duration paused = rateLimiter.pausedFor();
+        return open.compareTo(paused) >= 0 ? open : paused;
+    }
+
+    @Override
+    public String model() {
+        if (appProperties.openai().apiKey() == null || appProperties.openai().apiKey().isBlank()) {
+            return "passthrough";
+        }
+        String translationModel = appProperties.openai().translationModel();
+        return translationModel == null || translationModel.isBlank() ? "gpt-4o-mini" : translationModel;
+    }
+
     private String buildUserPrompt(String sourceText, String detectedLanguage) {
         String language = detectedLanguage == null || detectedLanguage.isBlank()
                 ? "unknown"
@@ -0,0 +1,25 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ProviderCircuitBreakers {
+
+    private final CircuitBreakerProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public ProviderCircuitBreakers(CircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CircuitBreaker breaker(String adapter) {
+        return breakers.computeIfAbsent(adapter, name -> new CircuitBreaker(name, properties, meterRegistry));
+    }
+}
@@ -0,0 +1,59 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.config.ProviderEndpointsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ProviderEndpoints {
+
+    private final AppProperties appProperties;
+    private final ProviderEndpointsProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, EndpointBalancer> balancers = new ConcurrentHashMap<>();
+
+    public ProviderEndpoints(AppProperties appProperties,
+                             ProviderEndpointsProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.appProperties = appProperties;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public EndpointBalancer openai(String adapter) {
+        return balancer(adapter, properties.openai(), appProperties.openai().baseUrl());
+    }
+
+    public EndpointBalancer ollama(String adapter) {
+        return balancer(adapter, properties.ollama(), appProperties.ollama().baseUrl());
+    }
+
+    private EndpointBalancer balancer(String adapter, List<String> baseUrls, String defaultBaseUrl) {
+        return balancers.computeIfAbsent(adapter, name -> new EndpointBalancer(
+                name,
+                resolve(baseUrls, defaultBaseUrl),
+                properties,
+                meterRegistry
+        ));
+    }
+
+    private static List<String> resolve(List<String> baseUrls, String defaultBaseUrl) {
+        List<String> configured = baseUrls.stream()
+                .filter(baseUrl -> baseUrl != null && !baseUrl.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (!configured.isEmpty()) {
+            return configured;
+        }
+        if (defaultBaseUrl == null || defaultBaseUrl.isBlank()) {
+            return List.of();
+        }
+        return List.of(defaultBaseUrl);
+    }
+}
@@ -0,0 +1,37 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.config.HedgingProperties;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class ProviderHedging {
+
+    private final HedgingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+
+    public ProviderHedging(HedgingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.executor = ContextExecutorService.wrap(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("provider-hedge-", 0).factory()),
+                ContextSnapshotFactory.builder().build()::captureAll
+        );
+    }
+
+    public HedgedExecutor executor(String adapter) {
+        return new HedgedExecutor(adapter, properties, executor, meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
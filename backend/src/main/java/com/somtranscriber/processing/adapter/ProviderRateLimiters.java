@@ -0,0 +1,49 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.config.ProviderRateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ProviderRateLimiters {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProviderRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ProviderRateLimiters(StringRedisTemplate redisTemplate,
+                                ProviderRateLimitProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RateLimiter limiter(String adapter) {
+        return limiters.computeIfAbsent(adapter, name -> new RateLimiter(
+                name,
+                properties,
+                limitFor(name),
+                redisTemplate,
+                meterRegistry
+        ));
+    }
+
+    private ProviderRateLimitProperties.Limit limitFor(String adapter) {
+        ProviderRateLimitProperties.Limit limit = switch (adapter) {
+            case "transcription" -> properties.transcription();
+            case "translation" -> properties.translation();
+            default -> throw new IllegalArgumentException("No rate limit configured for " + adapter);
+        };
+        if (properties.enabled() && limit.requestsPerMinute() < 1) {
+            throw new IllegalStateException("app.provider-rate-limit." + adapter
+                    + ".requests-per-minute must be set when the provider rate limit is enabled");
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,275 @@
+package com.somtranscriber.processing.adapter;
+
+import com.somtranscriber.config.ProviderRateLimitProperties;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.ProviderRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+    private static final Pattern RESET_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|s|m|h)");
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE = RedisScript.of("""
+            local paused = redis.call('PTTL', KEYS[2])
+            if paused > 0 then
+                return {paused, 0}
+            end
+            local rpm = tonumber(ARGV[1])
+            local tpm = tonumber(ARGV[2])
+            local cost = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'requests', 'tokens', 'at')
+            local requests = tonumber(state[1]) or rpm
+            local tokens = tonumber(state[2]) or tpm
+            local elapsed = math.max(0, now - (tonumber(state[3]) or now))
+            requests = math.min(rpm, requests + elapsed * rpm / 60000)
+            tokens = math.min(tpm, tokens + elapsed * tpm / 60000)
+            local wait = 0
+            if requests < 1 then
+                wait = math.ceil((1 - requests) * 60000 / rpm)
+            end
+            if tokens < cost then
+                wait = math.max(wait, math.ceil((cost - tokens) * 60000 / tpm))
+            end
+            if wait == 0 then
+                requests = requests - 1
+                tokens = tokens - cost
+            end
+            redis.call('HSET', KEYS[1], 'requests', tostring(requests), 'tokens', tostring(tokens), 'at', now)
+            redis.call('PEXPIRE', KEYS[1], 120000)
+            return {wait, math.floor(requests * 1000)}
+            """, List.class);
+
+    private static final RedisScript<Long> PAUSE = RedisScript.of("""
+            local current = redis.call('PTTL', KEYS[1])
+            if current < tonumber(ARGV[1]) then
+                redis.call('SET', KEYS[1], '1', 'PX', ARGV[1])
+            end
+            return current
+            """, Long.class);
+
+    private final String adapter;
+    private final ProviderRateLimitProperties properties;
+    private final ProviderRateLimitProperties.Limit limit;
+    private final StringRedisTemplate redisTemplate;
+    private final List<String> keys;
+    private final AtomicLong availableRequestsMilli;
+    private final Timer waits;
+    private final Counter throttled;
+    private final Counter rejected;
+
+    RateLimiter(String adapter,
+                ProviderRateLimitProperties properties,
+                ProviderRateLimitProperties.Limit limit,
+                StringRedisTemplate redisTemplate,
+                MeterRegistry meterRegistry) {
+        this.adapter = adapter;
+        this.properties = properties;
+        this.limit = limit;
+        this.redisTemplate = redisTemplate;
+        this.keys = List.of(properties.keyPrefix() + ":" + adapter, properties.keyPrefix() + ":" + adapter + ":paused");
+        this.availableRequestsMilli = new AtomicLong(limit.requestsPerMinute() * 1000L);
+        this.waits = Timer.builder("calls.provider.ratelimit.wait")
+                .tag("adapter", adapter)
+                .register(meterRegistry);
+        this.throttled = meterRegistry.counter("calls.provider.ratelimit.throttled.total", "adapter", adapter);
+        this.rejected = meterRegistry.counter("calls.provider.ratelimit.rejected.total", "adapter", adapter);
+        Gauge.builder("calls.provider.ratelimit.saturation", this, RateLimiter::saturation)
+                .tag("adapter", adapter)
+                .description("Share of the cluster-wide request budget in use, 1 while paused")
+                .register(meterRegistry);
+    }
+
+    public void acquire(long tokens, Deadline deadline) {
+        if (!properties.enabled()) {
+            return;
+        }
+        long cost = Math.min(Math.max(tokens, 0), limit.tokensPerMinute());
+        long startedAt = System.nanoTime();
+        boolean waited = false;
+        try {
+            while (true) {
+                long waitMillis = tryAcquire(cost);
+                if (waitMillis <= 0) {
+                    return;
+                }
+                Duration wait = Duration.ofMillis(waitMillis);
+                Duration waitedSoFar = Duration.ofNanos(System.nanoTime() - startedAt);
+                if (waitedSoFar.plus(wait).compareTo(properties.maxWait()) > 0 || !deadline.hasAtLeast(wait)) {
+                    rejected.increment();
+                    throw new ProviderRateLimitedException("Rate limit reached for " + adapter, wait);
+                }
+                waited = true;
+                Thread.sleep(waitMillis + ThreadLocalRandom.current().nextLong(1 + waitMillis / 10));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a rate limit permit", exception);
+        } finally {
+            if (waited) {
+                waits.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    public <T> T exchange(Supplier<ResponseEntity<T>> request) {
+        if (!properties.enabled()) {
+            return request.get().getBody();
+        }
+        try {
+            ResponseEntity<T> response = request.get();
+            Duration reset = exhaustedReset(response.getHeaders());
+            if (reset != null) {
+                pause(reset);
+            }
+            return response.getBody();
+        } catch (HttpClientErrorException.TooManyRequests exception) {
+            throttled.increment();
+            Duration retryAfter = retryAfter(exception.getResponseHeaders());
+            pause(retryAfter);
+            throw new ProviderRateLimitedException("Provider returned 429 for " + adapter, retryAfter);
+        }
+    }
+
+    public Duration pausedFor() {
+        if (!properties.enabled()) {
+            return Duration.ZERO;
+        }
+        try {
+            Long remaining = redisTemplate.getExpire(keys.get(1), TimeUnit.MILLISECONDS);
+            return remaining == null || remaining <= 0 ? Duration.ZERO : Duration.ofMillis(remaining);
+        } catch (Exception exception) {
+            log.warn("Unable to read {} rate limit pause: {}", adapter, exception.getMessage());
+            return Duration.ZERO;
+        }
+    }
+
+    private long tryAcquire(long cost) {
+        try {
+            List<?> result = redisTemplate.execute(
+                    ACQUIRE,
+                    keys,
+                    Integer.toString(limit.requestsPerMinute()),
+                    Long.toString(limit.tokensPerMinute()),
+                    Long.toString(cost)
+            );
+            if (result == null || result.size() < 2) {
+                return 0;
+            }
+            availableRequestsMilli.set(((Number) result.get(1)).longValue());
+            return ((Number) result.get(0)).longValue();
+        } catch (Exception exception) {
+            log.warn("Rate limiter for {} unavailable, letting the request through: {}", adapter, exception.getMessage());
+            return 0;
+        }
+    }
+
+    private void pause(Duration duration) {
+        try {
+            redisTemplate.execute(PAUSE, List.of(keys.get(1)), Long.toString(Math.max(1, duration.toMillis())));
+            availableRequestsMilli.set(0);
+            log.info("Pausing {} requests for {}", adapter, duration);
+        } catch (Exception exception) {
+            log.warn("Unable to pause {} requests: {}", adapter, exception.getMessage());
+        }
+    }
+
+    private Duration retryAfter(HttpHeaders headers) {
+        if (headers != null) {
+            String retryAfterMs = headers.getFirst("retry-after-ms");
+            if (retryAfterMs != null && retryAfterMs.matches("\\d+(\\.\\d+)?")) {
+                return Duration.ofMillis((long) Math.ceil(Double.parseDouble(retryAfterMs)));
+            }
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null && retryAfter.matches("\\d+")) {
+                return Duration.ofSeconds(Long.parseLong(retryAfter));
+            }
+            if (retryAfter != null) {
+                try {
+                    Duration until = Duration.between(Instant.now(),
+                            headers.getFirstZonedDateTime(HttpHeaders.RETRY_AFTER).toInstant());
+                    return until.isNegative() ? properties.defaultRetryAfter() : until;
+                } catch (IllegalArgumentException ignored) {
+                    // not an HTTP date either, use the reset headers
+                }
+            }
+            Duration reset = longest(parseReset(headers.getFirst("x-ratelimit-reset-requests")),
+                    parseReset(headers.getFirst("x-ratelimit-reset-tokens")));
+            if (reset != null) {
+                return reset;
+            }
+        }
+        return properties.defaultRetryAfter();
+    }
+
+    private static Duration exhaustedReset(HttpHeaders headers) {
+        Duration requests = "0".equals(headers.getFirst("x-ratelimit-remaining-requests"))
+                ? parseReset(headers.getFirst("x-ratelimit-reset-requests"))
+                : null;
+        Duration tokens = "0".equals(headers.getFirst("x-ratelimit-remaining-tokens"))
+                ? parseReset(headers.getFirst("x-ratelimit-reset-tokens"))
+                : null;
+        return longest(requests, tokens);
+    }
+
+    private static Duration parseReset(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Matcher matcher = RESET_PART.matcher(value.trim());
+        double millis = 0;
+        boolean matched = false;
+        while (matcher.find()) {
+            matched = true;
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "ms" -> amount;
+                case "s" -> amount * 1_000;
+                case "m" -> amount * 60_000;
+                default -> amount * 3_600_000;
+            };
+        }
+        return matched ? Duration.ofMillis((long) Math.ceil(millis)) : null;
+    }
+
+    private static Duration longest(Duration first, Duration second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first.compareTo(second) >= 0 ? first : second;
+    }
+
+    private double saturation() {
+        if (!properties.enabled()) {
+            return 0;
+        }
+        double capacity = limit.requestsPerMinute() * 1000.0;
+        return Math.min(1, Math.max(0, 1 - availableRequestsMilli.get() / capacity));
+    }
+}
@@ -0,0 +1,11 @@
+package com.somtranscriber.processing.cassette;
+
+public record CassetteEntry(
+        String route,
+        String requestDigest,
+        int status,
+        String contentType,
+        String body,
+        long latencyMs
+) {
+}
@@ -0,0 +1,46 @@
+package com.somtranscriber.processing.cassette;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+public class CassetteRecorder implements ClientHttpRequestInterceptor {
+
+    private final ProviderCassette cassette;
+
+    public CassetteRecorder(ProviderCassette cassette) {
+        this.cassette = cassette;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        byte[] responseBody;
+        HttpHeaders headers = new HttpHeaders();
+        int status;
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            responseBody = response.getBody().readAllBytes();
+            status = response.getStatusCode().value();
+            headers.putAll(response.getHeaders());
+        }
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        MediaType contentType = headers.getContentType();
+        cassette.add(new CassetteEntry(
+                ProviderCassette.route(request),
+                cassette.digest(request, body),
+                status,
+                contentType == null ? null : contentType.toString(),
+                new String(responseBody, StandardCharsets.UTF_8),
+                latencyMs
+        ));
+        return new CassetteResponse(status, headers, responseBody);
+    }
+}
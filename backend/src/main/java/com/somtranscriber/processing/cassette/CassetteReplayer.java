@@ -0,0 +1,57 @@
+package com.somtranscriber.processing.cassette;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+
+public class CassetteReplayer implements ClientHttpRequestInterceptor {
+
+    private final ProviderCassette cassette;
+    private final double latencyScale;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CassetteReplayer(ProviderCassette cassette, double latencyScale, MeterRegistry meterRegistry) {
+        this.cassette = cassette;
+        this.latencyScale = latencyScale;
+        this.hits = meterRegistry.counter("providers.cassette.replay.total", "result", "hit");
+        this.misses = meterRegistry.counter("providers.cassette.replay.total", "result", "miss");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String route = ProviderCassette.route(request);
+        CassetteEntry entry = cassette.next(route, cassette.digest(request, body)).orElse(null);
+        if (entry == null) {
+            misses.increment();
+            throw new IOException("No cassette entry recorded for " + route);
+        }
+        hits.increment();
+
+        long delayMs = Math.round(entry.latencyMs() * latencyScale);
+        if (delayMs > 0) {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while replaying " + route);
+            }
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        if (entry.contentType() != null) {
+            headers.setContentType(MediaType.parseMediaType(entry.contentType()));
+        }
+        byte[] responseBody = entry.body() == null ? new byte[0] : entry.body().getBytes(StandardCharsets.UTF_8);
+        return new CassetteResponse(entry.status(), headers, responseBody);
+    }
+}
@@ -0,0 +1,149 @@
+package com.somtranscriber.processing.cassette;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.somtranscriber.common.util.Hashing;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class ProviderCassette {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final List<CassetteEntry> entries = new ArrayList<>();
+    private final Map<String, List<CassetteEntry>> byRoute = new ConcurrentHashMap<>();
+    private final Map<String, List<CassetteEntry>> byRequest = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private ProviderCassette(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+    }
+
+    public static ProviderCassette create(Path path, ObjectMapper objectMapper) {
+        return new ProviderCassette(path, objectMapper);
+    }
+
+    public static ProviderCassette load(Path path, ObjectMapper objectMapper) {
+        ProviderCassette cassette = new ProviderCassette(path, objectMapper);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    cassette.add(cassette.objectMapper.readValue(line, CassetteEntry.class));
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to read provider cassette " + path, exception);
+        }
+        return cassette;
+    }
+
+    public void add(CassetteEntry entry) {
+        lock.lock();
+        try {
+            entries.add(entry);
+            byRoute.computeIfAbsent(entry.route(), key -> new ArrayList<>()).add(entry);
+            if (entry.requestDigest() != null) {
+                byRequest.computeIfAbsent(entry.route() + " " + entry.requestDigest(), key -> new ArrayList<>()).add(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<CassetteEntry> next(String route, String requestDigest) {
+        lock.lock();
+        try {
+            if (requestDigest != null) {
+                Optional<CassetteEntry> exact = cycle(route + " " + requestDigest, byRequest.get(route + " " + requestDigest));
+                if (exact.isPresent()) {
+                    return exact;
+                }
+            }
+            return cycle(route, byRoute.get(route));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void save() throws IOException {
+        List<CassetteEntry> snapshot;
+        lock.lock();
+        try {
+            snapshot = List.copyOf(entries);
+        } finally {
+            lock.unlock();
+        }
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            for (CassetteEntry entry : snapshot) {
+                writer.write(objectMapper.writeValueAsString(entry));
+                writer.newLine();
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static String route(HttpRequest request) {
+        return request.getMethod().name() + " " + request.getURI().getPath();
+    }
+
+    String digest(HttpRequest request, byte[] body) {
+        MediaType contentType = request.getHeaders().getContentType();
+        if (body.length == 0 || contentType == null || !contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return null;
+        }
+        try {
+            Object canonical = objectMapper.readValue(body, Object.class);
+            return Hashing.sha256Hex(objectMapper.writeValueAsString(canonical));
+        } catch (JsonProcessingException exception) {
+            return Hashing.sha256Hex(new String(body, StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private Optional<CassetteEntry> cycle(String key, List<CassetteEntry> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        int index = cursors.computeIfAbsent(key, ignored -> new AtomicInteger()).getAndIncrement();
+        return Optional.of(candidates.get(Math.floorMod(index, candidates.size())));
+    }
+}
@@ -1,5 +1,6 @@
 package com.somtranscriber.processing.model;
 
+import com.somtranscriber.common.db.UuidV7Id;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -10,7 +11,7 @@ import java.util.UUID;
 public class JobAttemptEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
 
     @Column(name = "call_id", nullable = false)
@@ -0,0 +1,8 @@
+package com.somtranscriber.processing.model;
+
+public enum PipelineStage {
+    TRANSCRIPTION,
+    TRANSLATION,
+    FORMAT,
+    PERSIST
+}
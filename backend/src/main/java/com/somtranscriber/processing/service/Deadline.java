@@ -0,0 +1,86 @@
+package com.somtranscriber.processing.service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE);
+    private static final Duration UNBOUNDED = Duration.ofNanos(Long.MAX_VALUE);
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public boolean isBounded() {
+        return this != NONE;
+    }
+
+    public Duration remaining() {
+        if (!isBounded()) {
+            return UNBOUNDED;
+        }
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return isBounded() && expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean hasAtLeast(Duration budget) {
+        return remaining().compareTo(budget) >= 0;
+    }
+
+    public Deadline within(Duration stageTimeout) {
+        if (stageTimeout == null) {
+            return this;
+        }
+        long stageExpiresAt = System.nanoTime() + stageTimeout.toNanos();
+        return !isBounded() || stageExpiresAt - expiresAtNanos < 0 ? new Deadline(stageExpiresAt) : this;
+    }
+
+    public static Deadline current() {
+        Deadline current = CURRENT.get();
+        return current == null ? NONE : current;
+    }
+
+    public <T> T run(Supplier<T> work) {
+        if (!isBounded()) {
+            return work.get();
+        }
+        long remainingNanos = expiresAtNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            throw DeadlineExceededException.beforeSend("Deadline passed before the call started");
+        }
+
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.get();
+        } catch (DeadlineExceededException exception) {
+            throw exception;
+        } catch (RuntimeException exception) {
+            if (isExpired()) {
+                throw new DeadlineExceededException("Call did not finish within " + Duration.ofNanos(remainingNanos), exception);
+            }
+            throw exception;
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.somtranscriber.processing.service;
+
+public class DeadlineExceededException extends RuntimeException {
+
+    private final boolean requestSent;
+
+    public DeadlineExceededException(String message) {
+        this(message, null, true);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        this(message, cause, true);
+    }
+
+    private DeadlineExceededException(String message, Throwable cause, boolean requestSent) {
+        super(message, cause);
+        this.requestSent = requestSent;
+    }
+
+    public static DeadlineExceededException beforeSend(String message) {
+        return new DeadlineExceededException(message, null, false);
+    }
+
+    public boolean isRequestSent() {
+        return requestSent;
+    }
+}
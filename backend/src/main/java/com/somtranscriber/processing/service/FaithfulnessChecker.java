@@ -0,0 +1,204 @@
+package com.somtranscriber.processing.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class FaithfulnessChecker {
+
+    public static final List<String> DEFAULT_TERMS = List.of(
+            "meeting",
+            "meetings",
+            "report",
+            "reports",
+            "agenda",
+            "stakeholder",
+            "deadline",
+            "presentation",
+            "minutes",
+            "action item",
+            "project plan"
+    );
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final int termCount;
+    private final char[] alphabet;
+    private final int[] asciiClasses = new int[128];
+    private final int classCount;
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    public FaithfulnessChecker(Collection<String> highRiskTerms) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : highRiskTerms) {
+            if (term != null && !term.isBlank()) {
+                terms.add(term.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.termCount = terms.size();
+
+        Set<Character> characters = new TreeSet<>();
+        for (String term : terms) {
+            for (int i = 0; i < term.length(); i++) {
+                characters.add(term.charAt(i));
+            }
+        }
+        this.alphabet = new char[characters.size()];
+        int index = 0;
+        for (char c : characters) {
+            alphabet[index++] = c;
+        }
+        for (int i = 0; i < alphabet.length; i++) {
+            if (alphabet[i] < 128) {
+                asciiClasses[alphabet[i]] = i + 1;
+            }
+        }
+        this.classCount = alphabet.length + 1;
+
+        List<Map<Integer, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> matches = new ArrayList<>();
+        trie.add(new HashMap<>());
+        matches.add(new ArrayList<>());
+        int termId = 0;
+        for (String term : terms) {
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                int charClass = classOf(term.charAt(i));
+                Integer next = trie.get(state).get(charClass);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(charClass, next);
+                    trie.add(new HashMap<>());
+                    matches.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            matches.get(state).add(termId++);
+        }
+
+        int states = trie.size();
+        this.transitions = new int[states * classCount];
+        this.outputs = new int[states][];
+        int[] failure = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int charClass = 1; charClass < classCount; charClass++) {
+            Integer child = trie.get(0).get(charClass);
+            if (child != null) {
+                transitions[charClass] = child;
+                queue.add(child);
+            }
+        }
+        outputs[0] = NO_OUTPUT;
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            List<Integer> stateMatches = new ArrayList<>(matches.get(state));
+            for (int inherited : outputs[failure[state]]) {
+                stateMatches.add(inherited);
+            }
+            outputs[state] = stateMatches.isEmpty()
+                    ? NO_OUTPUT
+                    : stateMatches.stream().mapToInt(Integer::intValue).toArray();
+
+            for (int charClass = 1; charClass < classCount; charClass++) {
+                Integer child = trie.get(state).get(charClass);
+                int fallback = transitions[failure[state] * classCount + charClass];
+                if (child != null) {
+                    failure[child] = fallback;
+                    transitions[state * classCount + charClass] = child;
+                    queue.add(child);
+                } else {
+                    transitions[state * classCount + charClass] = fallback;
+                }
+            }
+        }
+    }
+
+    public boolean looksUnfaithful(String source, String formatted) {
+        if (source == null || source.isBlank() || formatted == null || formatted.isBlank()) {
+            return false;
+        }
+
+        long[] added = termsIn(formatted);
+        if (added != null) {
+            clearTermsIn(source, added);
+            for (long word : added) {
+                if (word != 0) {
+                    return true;
+                }
+            }
+        }
+
+        int sourceWords = wordCount(source);
+        int formattedWords = wordCount(formatted);
+        return sourceWords > 0 && formattedWords > (sourceWords * 2) + 12;
+    }
+
+    public static int wordCount(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            if (isWhitespace(text.charAt(i))) {
+                inWord = false;
+            } else if (!inWord) {
+                inWord = true;
+                words++;
+            }
+        }
+        return words;
+    }
+
+    private long[] termsIn(String text) {
+        long[] found = null;
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state * classCount + classOf(Character.toLowerCase(text.charAt(i)))];
+            int[] matched = outputs[state];
+            if (matched.length == 0) {
+                continue;
+            }
+            if (found == null) {
+                found = new long[(termCount + 63) >>> 6];
+            }
+            for (int term : matched) {
+                found[term >>> 6] |= 1L << term;
+            }
+        }
+        return found;
+    }
+
+    private void clearTermsIn(String text, long[] terms) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state * classCount + classOf(Character.toLowerCase(text.charAt(i)))];
+            for (int term : outputs[state]) {
+                terms[term >>> 6] &= ~(1L << term);
+            }
+        }
+    }
+
+    private int classOf(char c) {
+        if (c < 128) {
+            return asciiClasses[c];
+        }
+        int index = Arrays.binarySearch(alphabet, c);
+        return index < 0 ? 0 : index + 1;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
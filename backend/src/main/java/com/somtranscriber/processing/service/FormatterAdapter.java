@@ -1,5 +1,15 @@
 package com.somtranscriber.processing.service;
 
+import java.time.Duration;
+
 public interface FormatterAdapter {
-    String format(String rawEnglishTranscript);
+    String format(String rawEnglishTranscript, Deadline deadline);
+
+    default String model() {
+        return "unknown";
+    }
+
+    default Duration unavailableFor() {
+        return Duration.ZERO;
+    }
 }
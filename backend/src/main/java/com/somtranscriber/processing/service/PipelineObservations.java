@@ -0,0 +1,238 @@
+package com.somtranscriber.processing.service;
+
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.calls.model.CallStatus;
+import com.somtranscriber.common.jfr.PipelineStageEvent;
+import com.somtranscriber.processing.model.PipelineStage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.observation.transport.SenderContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+@Component
+public class PipelineObservations {
+
+    public static final String STAGE_OBSERVATION = "calls.stage";
+    private static final String RETRY_QUEUE = "redis-retry-queue";
+
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Map<PipelineStage, AtomicInteger> inFlight = new EnumMap<>(PipelineStage.class);
+
+    public PipelineObservations(ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+        for (PipelineStage stage : PipelineStage.values()) {
+            AtomicInteger count = new AtomicInteger();
+            inFlight.put(stage, count);
+            Gauge.builder("calls.stage.inflight", count, AtomicInteger::get)
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+    }
+
+    public StageObservation start(PipelineStage stage, UUID callId, String model) {
+        PipelineStageEvent event = new PipelineStageEvent();
+        event.begin();
+        Observation observation = Observation.createNotStarted(STAGE_OBSERVATION, observationRegistry)
+                .lowCardinalityKeyValue("stage", stage.name().toLowerCase(Locale.ROOT))
+                .lowCardinalityKeyValue("model", tagValue(model))
+                .start();
+        AtomicInteger stageInFlight = inFlight.get(stage);
+        stageInFlight.incrementAndGet();
+        return new StageObservation(observation, event, stage, callId, model, stageInFlight);
+    }
+
+    public CallRecordEntity transition(CallStatus status, Supplier<CallRecordEntity> save) {
+        return Observation.createNotStarted("calls.status.transition", observationRegistry)
+                .lowCardinalityKeyValue("status", status.name())
+                .observe(save);
+    }
+
+    public void enqueue(RetryJob job, Consumer<RetryJob> enqueue) {
+        Map<String, String> carrier = new HashMap<>();
+        SenderContext<Map<String, String>> context = new SenderContext<>((target, key, value) -> target.put(key, value));
+        context.setCarrier(carrier);
+        context.setRemoteServiceName(RETRY_QUEUE);
+        Observation.createNotStarted("calls.retry.enqueue", () -> context, observationRegistry)
+                .lowCardinalityKeyValue("stage", job.stage().name().toLowerCase(Locale.ROOT))
+                .observe(() -> enqueue.accept(job.withTraceContext(carrier)));
+    }
+
+    public void dequeued(RetryJob job, Runnable work) {
+        ReceiverContext<Map<String, String>> context = new ReceiverContext<>((carrier, key) -> carrier.get(key));
+        context.setCarrier(job.traceContext());
+        context.setRemoteServiceName(RETRY_QUEUE);
+        Observation.createNotStarted("calls.retry.job", () -> context, observationRegistry)
+                .lowCardinalityKeyValue("stage", job.stage().name().toLowerCase(Locale.ROOT))
+                .observe(work);
+    }
+
+    public void recordQueueWait(RetryJob job, Instant startedAt) {
+        if (job.enqueuedAt() == null) {
+            return;
+        }
+        Timer.builder("calls.queue.wait")
+                .tag("stage", job.stage().name().toLowerCase(Locale.ROOT))
+                .tag("retry", String.valueOf(job.attempt() > 1))
+                .register(meterRegistry)
+                .record(Duration.between(job.enqueuedAt(), startedAt));
+    }
+
+    public void persisted(CallRecordEntity call, boolean terminal) {
+        StageObservation persist = start(PipelineStage.PERSIST, call.getId(), "database");
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            persist.stop();
+            if (terminal) {
+                recordUploadToReady(call);
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                boolean committed = status == STATUS_COMMITTED;
+                persist.outcome(committed ? "success" : "rolled_back").stop();
+                if (committed && terminal) {
+                    recordUploadToReady(call);
+                }
+            }
+        });
+    }
+
+    private void recordUploadToReady(CallRecordEntity call) {
+        if (call.getUploadedAt() == null) {
+            return;
+        }
+        Timer.builder("calls.upload.to.ready")
+                .tag("status", call.getStatus().name())
+                .register(meterRegistry)
+                .record(Duration.between(call.getUploadedAt(), Instant.now()));
+    }
+
+    private static String tagValue(String value) {
+        return value == null || value.isBlank() ? "unknown" : value;
+    }
+
+    static long utf8Length(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    public static final class StageObservation {
+
+        private final Observation observation;
+        private final PipelineStageEvent event;
+        private final PipelineStage stage;
+        private final UUID callId;
+        private final AtomicInteger inFlight;
+        private String model;
+        private String outcome = "success";
+        private long bytesIn;
+        private long bytesOut;
+        private boolean stopped;
+
+        private StageObservation(Observation observation,
+                                 PipelineStageEvent event,
+                                 PipelineStage stage,
+                                 UUID callId,
+                                 String model,
+                                 AtomicInteger inFlight) {
+            this.observation = observation;
+            this.event = event;
+            this.stage = stage;
+            this.callId = callId;
+            this.model = model;
+            this.inFlight = inFlight;
+        }
+
+        public StageObservation model(String model) {
+            this.model = model;
+            observation.lowCardinalityKeyValue("model", tagValue(model));
+            return this;
+        }
+
+        public StageObservation bytesIn(LongSupplier bytes) {
+            if (event.isEnabled()) {
+                this.bytesIn = bytes.getAsLong();
+            }
+            return this;
+        }
+
+        public StageObservation bytesIn(CharSequence text) {
+            return bytesIn(() -> utf8Length(text));
+        }
+
+        public StageObservation bytesOut(CharSequence text) {
+            if (event.isEnabled()) {
+                this.bytesOut = utf8Length(text);
+            }
+            return this;
+        }
+
+        public StageObservation outcome(String outcome) {
+            this.outcome = outcome;
+            return this;
+        }
+
+        public void fail(Throwable error) {
+            observation.error(error);
+            outcome(error instanceof DeadlineExceededException ? "deadline_exceeded" : "failure").stop();
+        }
+
+        public void stop() {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            inFlight.decrementAndGet();
+            observation.lowCardinalityKeyValue("outcome", outcome);
+            observation.stop();
+            event.end();
+            if (event.shouldCommit()) {
+                event.callId = callId == null ? null : callId.toString();
+                event.stage = stage.name();
+                event.model = tagValue(model);
+                event.outcome = outcome;
+                event.bytesIn = bytesIn;
+                event.bytesOut = bytesOut;
+                event.commit();
+            }
+        }
+    }
+}
@@ -6,23 +6,27 @@ import com.somtranscriber.calls.model.NoteSource;
 import com.somtranscriber.calls.repo.CallRecordRepository;
 import com.somtranscriber.common.exception.BadRequestException;
 import com.somtranscriber.common.exception.NotFoundException;
+import com.somtranscriber.common.exception.ServiceUnavailableException;
 import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.config.PipelineBudgetProperties;
+import com.somtranscriber.config.RunProperties;
 import com.somtranscriber.processing.model.JobAttemptEntity;
 import com.somtranscriber.processing.model.JobStage;
+import com.somtranscriber.processing.model.PipelineStage;
 import com.somtranscriber.processing.repo.JobAttemptRepository;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
 
@@ -39,20 +43,6 @@ public class ProcessingService {
             "audio/aac",
             "audio/ogg"
     );
-    private static final Set<String> HIGH_RISK_ADDITIONS = Set.of(
-            "meeting",
-            "meetings",
-            "report",
-            "reports",
-            "agenda",
-            "stakeholder",
-            "deadline",
-            "presentation",
-            "minutes",
-            "action item",
-            "project plan"
-    );
-
     private final CallRecordRepository callRecordRepository;
     private final JobAttemptRepository jobAttemptRepository;
     private final TranscriptionAdapter transcriptionAdapter;
@@ -60,12 +50,14 @@ public class ProcessingService {
     private final FormatterAdapter formatterAdapter;
     private final AudioStorageService audioStorageService;
     private final RetryQueueService retryQueueService;
+    private final FaithfulnessChecker faithfulnessChecker;
+    private final PipelineObservations pipelineObservations;
     private final AppProperties appProperties;
-    private final Timer transcriptionTimer;
-    private final Timer translationTimer;
-    private final Timer formatterTimer;
+    private final RunProperties runProperties;
+    private final PipelineBudgetProperties pipelineBudget;
     private final Counter fallbackCounter;
     private final Counter retryCounter;
+    private final Counter postponedCounter;
 
     public ProcessingService(CallRecordRepository callRecordRepository,
                              JobAttemptRepository jobAttemptRepository,
@@ -74,7 +66,11 @@ public class ProcessingService {
                              FormatterAdapter formatterAdapter,
                              AudioStorageService audioStorageService,
                              RetryQueueService retryQueueService,
+                             FaithfulnessChecker faithfulnessChecker,
+                             PipelineObservations pipelineObservations,
                              AppProperties appProperties,
+                             RunProperties runProperties,
+                             PipelineBudgetProperties pipelineBudget,
                              MeterRegistry meterRegistry) {
         this.callRecordRepository = callRecordRepository;
         this.jobAttemptRepository = jobAttemptRepository;
@@ -83,37 +79,55 @@ public class ProcessingService {
         this.formatterAdapter = formatterAdapter;
         this.audioStorageService = audioStorageService;
         this.retryQueueService = retryQueueService;
+        this.faithfulnessChecker = faithfulnessChecker;
+        this.pipelineObservations = pipelineObservations;
         this.appProperties = appProperties;
-        this.transcriptionTimer = meterRegistry.timer("calls.transcription.latency");
-        this.translationTimer = meterRegistry.timer("calls.translation.latency");
-        this.formatterTimer = meterRegistry.timer("calls.formatter.latency");
+        this.runProperties = runProperties;
+        this.pipelineBudget = pipelineBudget;
         this.fallbackCounter = meterRegistry.counter("calls.formatter.fallback.total");
         this.retryCounter = meterRegistry.counter("calls.retry.scheduled.total");
+        this.postponedCounter = meterRegistry.counter("calls.retry.postponed.total");
     }
 
     @Transactional
-    public CallRecordEntity processUpload(CallRecordEntity call, MultipartFile file, int durationSeconds) {
+    public AcceptedUpload acceptUpload(CallRecordEntity call, MultipartFile file, int durationSeconds) {
         validateUpload(file, durationSeconds);
+        Deadline deadline = Deadline.after(pipelineBudget.total());
 
         String key = audioStorageService.store(file);
         call.setAudioObjectKey(key);
         call.setStatus(CallStatus.UPLOADED);
+        call.setUploadedAt(Instant.now());
         call.setWarning(null);
-        CallRecordEntity saved = callRecordRepository.save(call);
+        CallRecordEntity saved = pipelineObservations.transition(CallStatus.UPLOADED, () -> callRecordRepository.save(call));
 
-        if (!appProperties.retry().asyncOnUpload()) {
-            return processTranscriptionAndFormatting(saved.getId(), true);
+        boolean runsPipeline = runProperties.role().runsPipeline();
+        if (runsPipeline && !appProperties.retry().asyncOnUpload()) {
+            return new AcceptedUpload(saved, true, deadline);
         }
 
-        boolean scheduled = enqueueRetry(saved.getId(), JobStage.TRANSCRIPTION, 1, 1L);
+        boolean scheduled = scheduleTranscription(saved.getId());
         if (!scheduled) {
-            return processTranscriptionAndFormatting(saved.getId(), true);
+            if (!runsPipeline) {
+                audioStorageService.delete(key);
+                throw new ServiceUnavailableException("Processing queue is unavailable", Duration.ofSeconds(30));
+            }
+            return new AcceptedUpload(saved, true, deadline);
         }
-        return saved;
+        return new AcceptedUpload(saved, false, deadline);
+    }
+
+    public boolean scheduleTranscription(UUID callId) {
+        return enqueueRetry(callId, JobStage.TRANSCRIPTION, 1, 1L);
     }
 
     @Transactional
     public CallRecordEntity processTranscriptionAndFormatting(UUID callId, boolean allowRetry) {
+        return processTranscriptionAndFormatting(callId, allowRetry, Deadline.after(pipelineBudget.total()));
+    }
+
+    @Transactional
+    public CallRecordEntity processTranscriptionAndFormatting(UUID callId, boolean allowRetry, Deadline deadline) {
         CallRecordEntity call = callRecordRepository.findById(callId)
                 .orElseThrow(() -> new NotFoundException("Call record not found"));
 
@@ -127,45 +141,64 @@ public class ProcessingService {
         }
 
         call.setStatus(CallStatus.TRANSCRIBING);
-        callRecordRepository.save(call);
+        pipelineObservations.transition(CallStatus.TRANSCRIBING, () -> callRecordRepository.save(call));
 
         TranscriptionResult transcription;
-        String englishText;
-        Timer.Sample transcriptionSample = Timer.start();
+        PipelineObservations.StageObservation transcribing =
+                pipelineObservations.start(PipelineStage.TRANSCRIPTION, callId, appProperties.openai().model());
         try {
-            transcription = transcriptionAdapter.transcribe(audioPath, "audio/*");
-            Timer.Sample translationSample = Timer.start();
-            try {
-                englishText = translationAdapter.translateToEnglish(
-                        transcription.englishText(),
-                        transcription.detectedLanguage()
-                );
-            } finally {
-                translationSample.stop(translationTimer);
-            }
+            transcribing.bytesIn(() -> audioSize(audioPath));
+            transcription = transcriptionAdapter.transcribe(
+                    audioPath,
+                    "audio/*",
+                    deadline.within(pipelineBudget.transcription())
+            );
+            transcribing.model(transcription.providerModel()).bytesOut(transcription.englishText()).stop();
+        } catch (Exception exception) {
+            transcribing.fail(exception);
+            return handleTranscriptionFailure(call, exception, allowRetry);
+        }
 
+        String englishText;
+        PipelineObservations.StageObservation translating =
+                pipelineObservations.start(PipelineStage.TRANSLATION, callId, translationAdapter.model())
+                        .bytesIn(transcription.englishText());
+        try {
+            englishText = translationAdapter.translateToEnglish(
+                    transcription.englishText(),
+                    transcription.detectedLanguage(),
+                    deadline.within(pipelineBudget.translation())
+            );
             if (englishText == null || englishText.isBlank()) {
                 throw new IllegalStateException("Translation stage returned empty text");
             }
+            translating.bytesOut(englishText).stop();
         } catch (Exception exception) {
-            transcriptionSample.stop(transcriptionTimer);
+            translating.fail(exception);
             return handleTranscriptionFailure(call, exception, allowRetry);
         }
-        transcriptionSample.stop(transcriptionTimer);
 
         call.setDetectedLanguage(transcription.detectedLanguage());
         call.setTranscriptEnglish(englishText);
         call.setTranscriptModel(transcription.providerModel());
         call.setTranscriptLatencyMs(transcription.latencyMs());
 
+        if (!deadline.hasAtLeast(pipelineBudget.formattingMinRemaining())) {
+            return skipFormatting(call);
+        }
+
         call.setStatus(CallStatus.FORMATTING);
-        callRecordRepository.save(call);
+        pipelineObservations.transition(CallStatus.FORMATTING, () -> callRecordRepository.save(call));
 
-        Timer.Sample formattingSample = Timer.start();
+        PipelineObservations.StageObservation formatting =
+                pipelineObservations.start(PipelineStage.FORMAT, callId, formatterAdapter.model())
+                        .bytesIn(englishText);
         try {
-            String formatted = formatterAdapter.format(englishText);
-            if (looksUnfaithful(englishText, formatted)) {
+            String formatted = formatterAdapter.format(englishText, deadline.within(pipelineBudget.formatting()));
+            formatting.bytesOut(formatted);
+            if (faithfulnessChecker.looksUnfaithful(englishText, formatted)) {
                 fallbackCounter.increment();
+                formatting.outcome("unfaithful");
                 call.setNoteText(englishText);
                 call.setNoteSource(NoteSource.RAW_TRANSLATION);
                 call.setStatus(CallStatus.READY_WITH_WARNING);
@@ -176,19 +209,28 @@ public class ProcessingService {
                 call.setStatus(CallStatus.READY);
                 call.setWarning(null);
             }
+            formatting.stop();
         } catch (Exception exception) {
-            formattingSample.stop(formatterTimer);
+            formatting.fail(exception);
             return handleFormatterFallback(call, exception);
         }
-        formattingSample.stop(formatterTimer);
 
         CallRecordEntity saved = callRecordRepository.save(call);
         deleteAudio(saved);
+        pipelineObservations.persisted(saved, true);
         return saved;
     }
 
     @Transactional
     public void processRetryJob(RetryJob job) {
+        Duration unavailableFor = providerUnavailableFor(job.stage());
+        if (!unavailableFor.isZero()) {
+            postponedCounter.increment();
+            enqueueRetry(job.callId(), job.stage(), job.attempt(), delaySeconds(0, unavailableFor));
+            return;
+        }
+        pipelineObservations.recordQueueWait(job, Instant.now());
+        Deadline deadline = Deadline.after(pipelineBudget.total());
         CallRecordEntity call = callRecordRepository.findById(job.callId()).orElse(null);
         if (call == null || call.getStatus() == CallStatus.FINALIZED) {
             return;
@@ -198,42 +240,49 @@ public class ProcessingService {
             if (call.getAudioObjectKey() == null) {
                 return;
             }
-            processTranscriptionAndFormatting(call.getId(), true);
+            processTranscriptionAndFormatting(call.getId(), true, deadline);
             return;
         }
 
         if (job.stage() == JobStage.FORMATTER) {
-            retryFormatter(call);
+            retryFormatter(call, deadline);
         }
     }
 
     private CallRecordEntity handleTranscriptionFailure(CallRecordEntity call, Exception exception, boolean allowRetry) {
-        int attempt = recordAttempt(call.getId(), JobStage.TRANSCRIPTION, exception.getClass().getSimpleName());
+        int attempt = stageAttempt(call.getId(), JobStage.TRANSCRIPTION, exception);
         boolean scheduled = false;
 
         if (allowRetry && attempt < appProperties.retry().maxAttempts()) {
-            scheduled = enqueueRetry(call.getId(), JobStage.TRANSCRIPTION, attempt + 1, attempt * 15L);
+            scheduled = enqueueRetry(call.getId(), JobStage.TRANSCRIPTION, attempt + 1, retryDelaySeconds(attempt * 15L, exception));
         }
 
         call.setStatus(CallStatus.FAILED);
-        call.setWarning(scheduled
-                ? "Transcription failed. Automatic retry scheduled."
-                : "Transcription failed. Please re-upload audio.");
+        if (scheduled && exception instanceof ProviderRateLimitedException) {
+            call.setWarning("Provider rate limit reached. Automatic retry scheduled.");
+        } else if (scheduled && exception instanceof ProviderUnavailableException) {
+            call.setWarning("Transcription provider unavailable. Automatic retry scheduled.");
+        } else {
+            call.setWarning(scheduled
+                    ? "Transcription failed. Automatic retry scheduled."
+                    : "Transcription failed. Please re-upload audio.");
+        }
 
         CallRecordEntity saved = callRecordRepository.save(call);
         if (!scheduled) {
             deleteAudio(saved);
         }
+        pipelineObservations.persisted(saved, !scheduled);
         return saved;
     }
 
     private CallRecordEntity handleFormatterFallback(CallRecordEntity call, Exception exception) {
         fallbackCounter.increment();
-        int attempt = recordAttempt(call.getId(), JobStage.FORMATTER, exception.getClass().getSimpleName());
+        int attempt = stageAttempt(call.getId(), JobStage.FORMATTER, exception);
 
         boolean scheduled = false;
         if (attempt < appProperties.retry().maxAttempts()) {
-            scheduled = enqueueRetry(call.getId(), JobStage.FORMATTER, attempt + 1, attempt * 10L);
+            scheduled = enqueueRetry(call.getId(), JobStage.FORMATTER, attempt + 1, retryDelaySeconds(attempt * 10L, exception));
         }
 
         call.setNoteText(call.getTranscriptEnglish());
@@ -245,10 +294,28 @@ public class ProcessingService {
 
         CallRecordEntity saved = callRecordRepository.save(call);
         deleteAudio(saved);
+        pipelineObservations.persisted(saved, true);
+        return saved;
+    }
+
+    private CallRecordEntity skipFormatting(CallRecordEntity call) {
+        fallbackCounter.increment();
+        pipelineObservations.start(PipelineStage.FORMAT, call.getId(), formatterAdapter.model())
+                .outcome("skipped")
+                .stop();
+
+        call.setNoteText(call.getTranscriptEnglish());
+        call.setNoteSource(NoteSource.RAW_TRANSLATION);
+        call.setStatus(CallStatus.READY_WITH_WARNING);
+        call.setWarning("Formatting skipped to stay within the processing deadline. Raw translation returned.");
+
+        CallRecordEntity saved = callRecordRepository.save(call);
+        deleteAudio(saved);
+        pipelineObservations.persisted(saved, true);
         return saved;
     }
 
-    private void retryFormatter(CallRecordEntity call) {
+    private void retryFormatter(CallRecordEntity call, Deadline deadline) {
         if (call.getTranscriptEnglish() == null || call.getTranscriptEnglish().isBlank()) {
             return;
         }
@@ -257,12 +324,19 @@ public class ProcessingService {
         }
 
         call.setStatus(CallStatus.FORMATTING);
-        callRecordRepository.save(call);
+        pipelineObservations.transition(CallStatus.FORMATTING, () -> callRecordRepository.save(call));
 
-        Timer.Sample sample = Timer.start();
+        PipelineObservations.StageObservation formatting =
+                pipelineObservations.start(PipelineStage.FORMAT, call.getId(), formatterAdapter.model())
+                        .bytesIn(call.getTranscriptEnglish());
         try {
-            String formatted = formatterAdapter.format(call.getTranscriptEnglish());
-            if (looksUnfaithful(call.getTranscriptEnglish(), formatted)) {
+            String formatted = formatterAdapter.format(
+                    call.getTranscriptEnglish(),
+                    deadline.within(pipelineBudget.formatting())
+            );
+            formatting.bytesOut(formatted);
+            if (faithfulnessChecker.looksUnfaithful(call.getTranscriptEnglish(), formatted)) {
+                formatting.outcome("unfaithful");
                 call.setNoteText(call.getTranscriptEnglish());
                 call.setNoteSource(NoteSource.RAW_TRANSLATION);
                 call.setStatus(CallStatus.READY_WITH_WARNING);
@@ -273,24 +347,49 @@ public class ProcessingService {
                 call.setStatus(CallStatus.READY);
                 call.setWarning(null);
             }
+            formatting.stop();
             callRecordRepository.save(call);
         } catch (Exception exception) {
-            sample.stop(formatterTimer);
-            int attempt = recordAttempt(call.getId(), JobStage.FORMATTER, exception.getClass().getSimpleName());
+            formatting.fail(exception);
+            int attempt = stageAttempt(call.getId(), JobStage.FORMATTER, exception);
             if (attempt < appProperties.retry().maxAttempts()) {
-                enqueueRetry(call.getId(), JobStage.FORMATTER, attempt + 1, attempt * 20L);
+                enqueueRetry(call.getId(), JobStage.FORMATTER, attempt + 1, retryDelaySeconds(attempt * 20L, exception));
             }
             call.setStatus(CallStatus.READY_WITH_WARNING);
             call.setWarning("Formatter retry failed. Using raw translation.");
             callRecordRepository.save(call);
             return;
         }
-        sample.stop(formatterTimer);
+        pipelineObservations.persisted(call, false);
+    }
+
+    private Duration providerUnavailableFor(JobStage stage) {
+        if (stage == JobStage.FORMATTER) {
+            return formatterAdapter.unavailableFor();
+        }
+        Duration transcription = transcriptionAdapter.unavailableFor();
+        Duration translation = translationAdapter.unavailableFor();
+        return transcription.compareTo(translation) >= 0 ? transcription : translation;
+    }
+
+    private static long retryDelaySeconds(long defaultSeconds, Exception exception) {
+        if (exception instanceof ProviderUnavailableException unavailable) {
+            return delaySeconds(defaultSeconds, unavailable.getRetryAfter());
+        }
+        return defaultSeconds;
+    }
+
+    private static long delaySeconds(long minimumSeconds, Duration retryAfter) {
+        long seconds = retryAfter.toSeconds() + (retryAfter.toNanosPart() > 0 ? 1 : 0);
+        return Math.max(Math.max(minimumSeconds, seconds), 1L);
     }
 
     private boolean enqueueRetry(UUID callId, JobStage stage, int attempt, long delaySeconds) {
         try {
-            retryQueueService.enqueue(new RetryJob(callId, stage, attempt, Instant.now().plusSeconds(delaySeconds)));
+            pipelineObservations.enqueue(
+                    new RetryJob(callId, stage, attempt, Instant.now().plusSeconds(delaySeconds)),
+                    retryQueueService::enqueue
+            );
             retryCounter.increment();
             return true;
         } catch (Exception exception) {
@@ -299,11 +398,14 @@ public class ProcessingService {
         }
     }
 
-    private int recordAttempt(UUID callId, JobStage stage, String errorCode) {
-        int previousAttempt = jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(callId, stage)
+    private int previousAttempt(UUID callId, JobStage stage) {
+        return jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(callId, stage)
                 .map(JobAttemptEntity::getAttemptNo)
                 .orElse(0);
-        int currentAttempt = previousAttempt + 1;
+    }
+
+    private int recordAttempt(UUID callId, JobStage stage, String errorCode) {
+        int currentAttempt = previousAttempt(callId, stage) + 1;
 
         JobAttemptEntity attempt = new JobAttemptEntity();
         attempt.setCallId(callId);
@@ -315,6 +417,13 @@ public class ProcessingService {
         return currentAttempt;
     }
 
+    private int stageAttempt(UUID callId, JobStage stage, Exception exception) {
+        if (exception instanceof ProviderUnavailableException) {
+            return previousAttempt(callId, stage);
+        }
+        return recordAttempt(callId, stage, exception.getClass().getSimpleName());
+    }
+
     private void validateUpload(MultipartFile file, int durationSeconds) {
         if (file == null || file.isEmpty()) {
             throw new BadRequestException("Audio file is required");
@@ -330,32 +439,6 @@ public class ProcessingService {
         }
     }
 
-    private boolean looksUnfaithful(String source, String formatted) {
-        if (source == null || source.isBlank() || formatted == null || formatted.isBlank()) {
-            return false;
-        }
-
-        String sourceLower = source.toLowerCase(Locale.ROOT);
-        String formattedLower = formatted.toLowerCase(Locale.ROOT);
-        for (String term : HIGH_RISK_ADDITIONS) {
-            if (formattedLower.contains(term) && !sourceLower.contains(term)) {
-                return true;
-            }
-        }
-
-        int sourceWords = wordCount(source);
-        int formattedWords = wordCount(formatted);
-        return sourceWords > 0 && formattedWords > (sourceWords * 2) + 12;
-    }
-
-    private int wordCount(String text) {
-        String trimmed = text == null ? "" : text.trim();
-        if (trimmed.isEmpty()) {
-            return 0;
-        }
-        return trimmed.split("\\s+").length;
-    }
-
     private void deleteAudio(CallRecordEntity call) {
         if (call.getAudioObjectKey() == null) {
             return;
@@ -365,4 +448,15 @@ public class ProcessingService {
         call.setAudioObjectKey(null);
         callRecordRepository.save(call);
     }
+
+    private static long audioSize(Path audioPath) {
+        try {
+            return Files.size(audioPath);
+        } catch (IOException exception) {
+            return 0;
+        }
+    }
+
+    public record AcceptedUpload(CallRecordEntity call, boolean processInline, Deadline deadline) {
+    }
 }
@@ -0,0 +1,10 @@
+package com.somtranscriber.processing.service;
+
+import java.time.Duration;
+
+public class ProviderRateLimitedException extends ProviderUnavailableException {
+
+    public ProviderRateLimitedException(String message, Duration retryAfter) {
+        super(message, retryAfter);
+    }
+}
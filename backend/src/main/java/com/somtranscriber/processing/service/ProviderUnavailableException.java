@@ -0,0 +1,17 @@
+package com.somtranscriber.processing.service;
+
+import java.time.Duration;
+
+public class ProviderUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ProviderUnavailableException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
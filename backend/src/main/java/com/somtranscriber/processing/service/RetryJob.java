@@ -3,12 +3,31 @@ package com.somtranscriber.processing.service;
 import com.somtranscriber.processing.model.JobStage;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 public record RetryJob(
         UUID callId,
         JobStage stage,
         int attempt,
-        Instant availableAt
+        Instant availableAt,
+        Instant enqueuedAt,
+        Map<String, String> traceContext
 ) {
+
+    public RetryJob {
+        traceContext = traceContext == null ? Map.of() : Map.copyOf(traceContext);
+    }
+
+    public RetryJob(UUID callId, JobStage stage, int attempt, Instant availableAt, Instant enqueuedAt) {
+        this(callId, stage, attempt, availableAt, enqueuedAt, Map.of());
+    }
+
+    public RetryJob(UUID callId, JobStage stage, int attempt, Instant availableAt) {
+        this(callId, stage, attempt, availableAt, Instant.now());
+    }
+
+    public RetryJob withTraceContext(Map<String, String> traceContext) {
+        return new RetryJob(callId, stage, attempt, availableAt, enqueuedAt, traceContext);
+    }
 }
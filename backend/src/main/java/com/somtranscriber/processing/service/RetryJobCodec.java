@@ -0,0 +1,25 @@
+package com.somtranscriber.processing.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class RetryJobCodec {
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public RetryJobCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(RetryJob.class);
+        this.reader = objectMapper.readerFor(RetryJob.class);
+    }
+
+    public String encode(RetryJob job) throws JsonProcessingException {
+        return writer.writeValueAsString(job);
+    }
+
+    public RetryJob decode(String payload) throws JsonProcessingException {
+        return reader.readValue(payload);
+    }
+}
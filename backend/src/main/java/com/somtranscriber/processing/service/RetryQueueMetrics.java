@@ -0,0 +1,50 @@
+package com.somtranscriber.processing.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(value = "app.retry.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class RetryQueueMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryQueueMetrics.class);
+
+    private final RetryQueueService retryQueueService;
+    private final AtomicLong ready = new AtomicLong();
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong oldestReadyAgeMillis = new AtomicLong();
+
+    public RetryQueueMetrics(RetryQueueService retryQueueService, MeterRegistry meterRegistry) {
+        this.retryQueueService = retryQueueService;
+        Gauge.builder("calls.retry.queue.ready", ready, AtomicLong::get)
+                .description("Retry jobs whose availableAt has passed")
+                .register(meterRegistry);
+        Gauge.builder("calls.retry.queue.scheduled", scheduled, AtomicLong::get)
+                .description("Retry jobs waiting for their backoff to elapse")
+                .register(meterRegistry);
+        TimeGauge.builder("calls.retry.queue.oldest.ready.age", oldestReadyAgeMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("How long the oldest ready retry job has been waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.retry.metrics.refresh-ms:5000}")
+    public void refresh() {
+        try {
+            RetryQueueService.RetryQueueStats stats = retryQueueService.stats();
+            ready.set(stats.ready());
+            scheduled.set(stats.scheduled());
+            oldestReadyAgeMillis.set(stats.oldestReadyAge().toMillis());
+        } catch (Exception exception) {
+            log.warn("Unable to refresh retry queue metrics: {}", exception.getMessage());
+        }
+    }
+}
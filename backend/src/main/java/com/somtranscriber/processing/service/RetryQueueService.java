@@ -1,11 +1,13 @@
 package com.somtranscriber.processing.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.somtranscriber.common.jfr.RetryQueuePollEvent;
 import com.somtranscriber.config.AppProperties;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Set;
 import java.util.Optional;
@@ -14,18 +16,18 @@ import java.util.Optional;
 public class RetryQueueService {
 
     private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RetryJobCodec codec;
     private final String queueKey;
 
     public RetryQueueService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, AppProperties appProperties) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
+        this.codec = new RetryJobCodec(objectMapper);
         this.queueKey = appProperties.retry().queueKey();
     }
 
     public void enqueue(RetryJob job) {
         try {
-            String payload = objectMapper.writeValueAsString(job);
+            String payload = codec.encode(job);
             double score = job.availableAt() == null
                     ? Instant.now().toEpochMilli()
                     : job.availableAt().toEpochMilli();
@@ -36,33 +38,68 @@ public class RetryQueueService {
     }
 
     public Optional<RetryJob> pollReadyJob() {
+        RetryQueuePollEvent event = new RetryQueuePollEvent();
+        event.begin();
+        Optional<RetryJob> job = Optional.empty();
+        boolean empty = false;
         try {
             Set<ZSetOperations.TypedTuple<String>> earliest = redisTemplate.opsForZSet()
                     .rangeWithScores(queueKey, 0, 0);
             if (earliest == null || earliest.isEmpty()) {
-                return Optional.empty();
+                empty = true;
+                return job;
             }
 
             ZSetOperations.TypedTuple<String> tuple = earliest.iterator().next();
             String payload = tuple.getValue();
             Double score = tuple.getScore();
             if (payload == null || score == null) {
-                return Optional.empty();
+                return job;
             }
 
             if (score > Instant.now().toEpochMilli()) {
-                return Optional.empty();
+                return job;
             }
 
             Long removed = redisTemplate.opsForZSet().remove(queueKey, payload);
             if (removed == null || removed == 0) {
-                return Optional.empty();
+                return job;
             }
 
-            RetryJob job = objectMapper.readValue(payload, RetryJob.class);
-            return Optional.of(job);
+            job = Optional.of(codec.decode(payload));
+            return job;
         } catch (Exception exception) {
             throw new IllegalStateException("Unable to poll retry queue", exception);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.claimed = job.isPresent();
+                event.empty = empty;
+                event.stage = job.map(claimed -> claimed.stage().name()).orElse(null);
+                event.commit();
+            }
+        }
+    }
+
+    public RetryQueueStats stats() {
+        long now = Instant.now().toEpochMilli();
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        Long ready = zSet.count(queueKey, Double.NEGATIVE_INFINITY, now);
+        Long total = zSet.zCard(queueKey);
+        Set<ZSetOperations.TypedTuple<String>> earliest = zSet.rangeWithScores(queueKey, 0, 0);
+
+        Duration oldestReadyAge = Duration.ZERO;
+        if (earliest != null && !earliest.isEmpty()) {
+            Double score = earliest.iterator().next().getScore();
+            if (score != null && score <= now) {
+                oldestReadyAge = Duration.ofMillis(now - score.longValue());
+            }
         }
+        long readyCount = ready == null ? 0 : ready;
+        long totalCount = total == null ? 0 : total;
+        return new RetryQueueStats(readyCount, Math.max(0, totalCount - readyCount), oldestReadyAge);
+    }
+
+    public record RetryQueueStats(long ready, long scheduled, Duration oldestReadyAge) {
     }
 }
@@ -1,12 +1,16 @@
 package com.somtranscriber.processing.service;
 
+import com.somtranscriber.config.AppProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 
 @Component
 @ConditionalOnProperty(value = "app.retry.worker.enabled", havingValue = "true", matchIfMissing = true)
@@ -16,25 +20,56 @@ public class RetryWorker {
 
     private final RetryQueueService retryQueueService;
     private final ProcessingService processingService;
+    private final PipelineObservations pipelineObservations;
+    private final Executor executor;
+    private final Semaphore permits;
 
-    public RetryWorker(RetryQueueService retryQueueService, ProcessingService processingService) {
+    public RetryWorker(RetryQueueService retryQueueService,
+                       ProcessingService processingService,
+                       PipelineObservations pipelineObservations,
+                       @Qualifier("applicationTaskExecutor") Executor executor,
+                       AppProperties appProperties) {
         this.retryQueueService = retryQueueService;
         this.processingService = processingService;
+        this.pipelineObservations = pipelineObservations;
+        this.executor = executor;
+        this.permits = new Semaphore(appProperties.retry().worker().concurrency());
     }
 
     @Scheduled(fixedDelayString = "${app.retry.worker.delay-ms:2000}")
     public void pollAndProcessJobs() {
-        for (int i = 0; i < 5; i++) {
-            Optional<RetryJob> job = retryQueueService.pollReadyJob();
+        while (permits.tryAcquire()) {
+            Optional<RetryJob> job;
+            try {
+                job = retryQueueService.pollReadyJob();
+            } catch (RuntimeException exception) {
+                permits.release();
+                throw exception;
+            }
             if (job.isEmpty()) {
+                permits.release();
                 return;
             }
 
+            RetryJob ready = job.get();
             try {
-                processingService.processRetryJob(job.get());
-            } catch (Exception exception) {
-                log.error("Retry job failed: {}", job.get(), exception);
+                executor.execute(() -> process(ready));
+            } catch (RuntimeException exception) {
+                permits.release();
+                log.error("Unable to dispatch retry job, returning it to the queue: {}", ready, exception);
+                retryQueueService.enqueue(ready);
+                return;
             }
         }
     }
+
+    private void process(RetryJob job) {
+        try {
+            pipelineObservations.dequeued(job, () -> processingService.processRetryJob(job));
+        } catch (Exception exception) {
+            log.error("Retry job failed: {}", job, exception);
+        } finally {
+            permits.release();
+        }
+    }
 }
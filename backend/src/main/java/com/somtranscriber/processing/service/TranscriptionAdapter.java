@@ -1,7 +1,12 @@
 package com.somtranscriber.processing.service;
 
 import java.nio.file.Path;
+import java.time.Duration;
 
 public interface TranscriptionAdapter {
-    TranscriptionResult transcribe(Path filePath, String mimeType);
+    TranscriptionResult transcribe(Path filePath, String mimeType, Deadline deadline);
+
+    default Duration unavailableFor() {
+        return Duration.ZERO;
+    }
 }
@@ -1,5 +1,15 @@
 package com.somtranscriber.processing.service;
 
+import java.time.Duration;
+
 public interface TranslationAdapter {
-    String translateToEnglish(String sourceText, String detectedLanguage);
+    String translateToEnglish(String sourceText, String detectedLanguage, Deadline deadline);
+
+    default String model() {
+        return "unknown";
+    }
+
+    default Duration unavailableFor() {
+        return Duration.ZERO;
+    }
 }
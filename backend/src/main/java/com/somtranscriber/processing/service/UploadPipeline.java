@@ -0,0 +1,102 @@
+package com.somtranscriber.processing.service;
+
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.common.exception.ServiceUnavailableException;
+import com.somtranscriber.config.UploadPipelineProperties;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class UploadPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadPipeline.class);
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final ProcessingService processingService;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Duration deadline;
+    private final Counter deadlineCounter;
+    private final Counter rejectedCounter;
+
+    public UploadPipeline(ProcessingService processingService,
+                          UploadPipelineProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.processingService = processingService;
+        this.pool = new ThreadPoolExecutor(
+                properties.threads(),
+                properties.threads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new CustomizableThreadFactory("upload-pipeline-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ContextExecutorService.wrap(pool, ContextSnapshotFactory.builder().build()::captureAll);
+        this.deadline = properties.deadline();
+        this.deadlineCounter = meterRegistry.counter("calls.upload.deadline.exceeded.total");
+        this.rejectedCounter = meterRegistry.counter("calls.upload.rejected.total");
+        new ExecutorServiceMetrics(pool, "upload.pipeline", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public CompletableFuture<CallRecordEntity> processUpload(CallRecordEntity call, MultipartFile file, int durationSeconds) {
+        ProcessingService.AcceptedUpload accepted = processingService.acceptUpload(call, file, durationSeconds);
+        if (!accepted.processInline()) {
+            return CompletableFuture.completedFuture(accepted.call());
+        }
+
+        UUID callId = accepted.call().getId();
+        CompletableFuture<CallRecordEntity> pipeline;
+        try {
+            pipeline = CompletableFuture.supplyAsync(
+                    () -> processingService.processTranscriptionAndFormatting(callId, true, accepted.deadline()),
+                    executor
+            );
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            if (processingService.scheduleTranscription(callId)) {
+                return CompletableFuture.completedFuture(accepted.call());
+            }
+            throw new ServiceUnavailableException("Processing is busy, retry shortly", RETRY_AFTER);
+        }
+
+        return pipeline.copy()
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(exception -> {
+                    if (exception instanceof TimeoutException) {
+                        deadlineCounter.increment();
+                        log.warn("Upload pipeline for call {} passed its {} deadline, returning current status", callId, deadline);
+                        return CompletableFuture.completedFuture(accepted.call());
+                    }
+                    return CompletableFuture.failedFuture(exception);
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        pool.shutdown();
+        if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent_table TEXT, month_start DATE)
+RETURNS BOOLEAN AS $$
+DECLARE
+    partition_start DATE := date_trunc('month', month_start)::DATE;
+    partition_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := parent_table || '_p' || to_char(partition_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format(
+        'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+        partition_name,
+        parent_table,
+        partition_start::TIMESTAMP AT TIME ZONE 'UTC',
+        partition_end::TIMESTAMP AT TIME ZONE 'UTC'
+    );
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE call_records RENAME TO call_records_legacy;
+ALTER TABLE call_records_legacy RENAME CONSTRAINT call_records_pkey TO call_records_legacy_pkey;
+DROP INDEX idx_call_records_user_call_at;
+
+ALTER TABLE job_attempts RENAME TO job_attempts_legacy;
+ALTER TABLE job_attempts_legacy RENAME CONSTRAINT job_attempts_pkey TO job_attempts_legacy_pkey;
+DROP INDEX idx_job_attempts_call_stage;
+
+CREATE TABLE call_records (
+    id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    call_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    audio_object_key TEXT,
+    detected_language VARCHAR(64),
+    transcript_english TEXT,
+    transcript_model VARCHAR(128),
+    transcript_latency_ms BIGINT,
+    note_text TEXT,
+    note_source VARCHAR(32),
+    warning TEXT,
+    final_text TEXT,
+    finalized_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id, call_at)
+) PARTITION BY RANGE (call_at);
+
+CREATE TABLE job_attempts (
+    id UUID NOT NULL,
+    call_id UUID NOT NULL,
+    stage VARCHAR(32) NOT NULL,
+    attempt_no INT NOT NULL,
+    error_code VARCHAR(128),
+    next_retry_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE call_records_default PARTITION OF call_records DEFAULT;
+CREATE TABLE job_attempts_default PARTITION OF job_attempts DEFAULT;
+
+CREATE INDEX idx_call_records_id ON call_records(id);
+CREATE INDEX idx_call_records_user_call_at ON call_records(user_id, call_at DESC);
+CREATE INDEX idx_job_attempts_call_stage ON job_attempts(call_id, stage);
+
+DO $$
+DECLARE
+    first_month DATE;
+    last_month DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::DATE;
+    current_month DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(call_at) AT TIME ZONE 'UTC')::DATE, last_month)
+    INTO first_month
+    FROM call_records_legacy
+    WHERE call_at >= now() - INTERVAL '5 years';
+
+    first_month := LEAST(first_month, date_trunc('month', now() AT TIME ZONE 'UTC')::DATE);
+    current_month := first_month;
+    WHILE current_month <= last_month LOOP
+        PERFORM create_monthly_partition('call_records', current_month);
+        current_month := (current_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+
+    SELECT COALESCE(date_trunc('month', MIN(created_at) AT TIME ZONE 'UTC')::DATE, last_month)
+    INTO first_month
+    FROM job_attempts_legacy;
+
+    first_month := LEAST(first_month, date_trunc('month', now() AT TIME ZONE 'UTC')::DATE);
+    current_month := first_month;
+    WHILE current_month <= last_month LOOP
+        PERFORM create_monthly_partition('job_attempts', current_month);
+        current_month := (current_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO call_records
+SELECT id, user_id, call_at, status, audio_object_key, detected_language, transcript_english,
+       transcript_model, transcript_latency_ms, note_text, note_source, warning, final_text,
+       finalized_at, created_at, updated_at
+FROM call_records_legacy;
+
+INSERT INTO job_attempts
+SELECT id, call_id, stage, attempt_no, error_code, next_retry_at, created_at
+FROM job_attempts_legacy;
+
+DROP TABLE call_records_legacy;
+DROP TABLE job_attempts_legacy;
@@ -0,0 +1,2 @@
+ALTER TABLE call_records
+ADD COLUMN uploaded_at TIMESTAMP WITH TIME ZONE;
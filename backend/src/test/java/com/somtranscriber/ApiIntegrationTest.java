@@ -20,13 +20,16 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.Instant;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -92,6 +95,11 @@ class ApiIntegrationTest {
                 .andReturn().getResponse().getContentAsString();
 
         String rotatedRefresh = objectMapper.readTree(refreshResponse).get("refreshToken").asText();
+        mockMvc.perform(post("/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isUnauthorized());
+
         mockMvc.perform(post("/v1/auth/logout")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"refreshToken\":\"" + rotatedRefresh + "\"}"))
@@ -120,6 +128,21 @@ class ApiIntegrationTest {
                 .andExpect(jsonPath("$.accessToken").isNotEmpty());
     }
 
+    @Test
+    void flightRecorderEndpointIsOperatorOnly() throws Exception {
+        createUser("operator@example.com", "123456", UserRole.OPERATOR);
+        createUser("worker@example.com", "123456", UserRole.WORKER);
+
+        mockMvc.perform(get("/actuator/jfr")
+                        .header("Authorization", "Bearer " + accessToken("worker@example.com", "123456")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/jfr")
+                        .header("Authorization", "Bearer " + accessToken("operator@example.com", "123456")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CLOSED"));
+    }
+
     @Test
     void createUploadEditAndFinalizeCall() throws Exception {
         createUser("worker@example.com", "123456", UserRole.WORKER);
@@ -146,10 +169,13 @@ class ApiIntegrationTest {
                 "dummy-audio".getBytes()
         );
 
-        mockMvc.perform(multipart("/v1/calls/{callId}/audio", callId)
+        MvcResult upload = mockMvc.perform(multipart("/v1/calls/{callId}/audio", callId)
                         .file(file)
                         .param("durationSeconds", "30")
                         .header("Authorization", "Bearer " + access))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(upload))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("READY"))
                 .andExpect(jsonPath("$.noteText").isNotEmpty());
@@ -161,11 +187,22 @@ class ApiIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.noteText").value("Called clinic, confirmed patient follow-up tomorrow."));
 
+        mockMvc.perform(get("/v1/calls/{callId}", callId)
+                        .header("Authorization", "Bearer " + access))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("READY"));
+
         mockMvc.perform(post("/v1/calls/{callId}/finalize", callId)
                         .header("Authorization", "Bearer " + access))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("FINALIZED"))
                 .andExpect(jsonPath("$.isFinal").value(true));
+
+        mockMvc.perform(get("/v1/calls/{callId}", callId)
+                        .header("Authorization", "Bearer " + access))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FINALIZED"))
+                .andExpect(jsonPath("$.noteText").value("Called clinic, confirmed patient follow-up tomorrow."));
     }
 
     @Test
@@ -217,6 +254,62 @@ class ApiIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void conditionalGetsReturnNotModifiedUntilTheCallChanges() throws Exception {
+        createUser("worker@example.com", "123456", UserRole.WORKER);
+        String access = accessToken("worker@example.com", "123456");
+
+        String callResponse = mockMvc.perform(post("/v1/calls")
+                        .header("Authorization", "Bearer " + access)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"callAt":"%s"}
+                                """.formatted(Instant.now().toString())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        UUID callId = UUID.fromString(objectMapper.readTree(callResponse).get("callId").asText());
+
+        String callETag = mockMvc.perform(get("/v1/calls/{callId}", callId)
+                        .header("Authorization", "Bearer " + access))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        String listETag = mockMvc.perform(get("/v1/calls")
+                        .header("Authorization", "Bearer " + access))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/v1/calls/{callId}", callId)
+                        .header("Authorization", "Bearer " + access)
+                        .header("If-None-Match", callETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", callETag));
+        mockMvc.perform(get("/v1/calls")
+                        .header("Authorization", "Bearer " + access)
+                        .header("If-None-Match", listETag))
+                .andExpect(status().isNotModified());
+
+        MockMultipartFile file = new MockMultipartFile("file", "call.m4a", "audio/mpeg", "dummy-audio".getBytes());
+        MvcResult upload = mockMvc.perform(multipart("/v1/calls/{callId}/audio", callId)
+                        .file(file)
+                        .param("durationSeconds", "30")
+                        .header("Authorization", "Bearer " + access))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(upload))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/calls/{callId}", callId)
+                        .header("Authorization", "Bearer " + access)
+                        .header("If-None-Match", callETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("READY"));
+        mockMvc.perform(get("/v1/calls")
+                        .header("Authorization", "Bearer " + access)
+                        .header("If-None-Match", listETag))
+                .andExpect(status().isOk());
+    }
+
     private UserEntity createUser(String email, String password, UserRole role) {
         UserEntity user = new UserEntity();
         user.setEmail(email);
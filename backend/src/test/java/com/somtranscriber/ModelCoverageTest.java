@@ -10,15 +10,26 @@ import com.somtranscriber.common.security.SecurityUtils;
 import com.somtranscriber.common.util.Hashing;
 import com.somtranscriber.common.web.ErrorResponse;
 import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.config.CircuitBreakerProperties;
+import com.somtranscriber.config.HedgingProperties;
+import com.somtranscriber.config.ProviderEndpointsProperties;
+import com.somtranscriber.config.ProviderRateLimitProperties;
 import com.somtranscriber.processing.adapter.OllamaFormatterAdapter;
 import com.somtranscriber.processing.adapter.OpenAiTranslationAdapter;
 import com.somtranscriber.processing.adapter.OpenAiTranscriptionAdapter;
+import com.somtranscriber.processing.adapter.ProviderCircuitBreakers;
+import com.somtranscriber.processing.adapter.ProviderEndpoints;
+import com.somtranscriber.processing.adapter.ProviderHedging;
+import com.somtranscriber.processing.adapter.ProviderRateLimiters;
 import com.somtranscriber.processing.model.JobAttemptEntity;
 import com.somtranscriber.processing.model.JobStage;
+import com.somtranscriber.processing.service.Deadline;
 import com.somtranscriber.processing.service.TranscriptionResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.web.client.RestClient;
 
 import java.nio.file.Files;
@@ -140,25 +151,43 @@ class ModelCoverageTest {
     @Test
     void adaptersHandleLocalFallbackMode() throws Exception {
         AppProperties properties = new AppProperties(
-                new AppProperties.Jwt("issuer", 15, 30, "super-secret-super-secret-super-secret"),
+                new AppProperties.Jwt("issuer", 15, 30, "super-secret-super-secret-super-secret", 10_000),
                 new AppProperties.Audio("/tmp/test-audio", 120),
                 new AppProperties.OpenAi("", "gpt-4o-transcribe", "gpt-4o-mini", "https://api.openai.com"),
                 new AppProperties.Ollama("", "qwen2.5:3b"),
-                new AppProperties.Retry("queue", 3, false),
+                new AppProperties.Retry("queue", 3, false, new AppProperties.Retry.Worker(false, 2000, 5)),
                 new AppProperties.Cors(List.of("http://localhost"))
         );
+        ProviderHedging hedging = new ProviderHedging(
+                new HedgingProperties(false, 0, null, 0, 0, 0, 0),
+                new SimpleMeterRegistry()
+        );
+        ProviderCircuitBreakers circuitBreakers = new ProviderCircuitBreakers(
+                new CircuitBreakerProperties(false, 0, 0, 0, null, 0),
+                new SimpleMeterRegistry()
+        );
+        ProviderEndpoints providerEndpoints = new ProviderEndpoints(
+                properties,
+                new ProviderEndpointsProperties(null, null, null, 0, null),
+                new SimpleMeterRegistry()
+        );
+        ProviderRateLimiters rateLimiters = new ProviderRateLimiters(
+                new StringRedisTemplate(),
+                new ProviderRateLimitProperties(false, null, null, null, null, null),
+                new SimpleMeterRegistry()
+        );
 
-        OpenAiTranscriptionAdapter transcriptionAdapter = new OpenAiTranscriptionAdapter(RestClient.builder(), new ObjectMapper(), properties);
+        OpenAiTranscriptionAdapter transcriptionAdapter = new OpenAiTranscriptionAdapter(RestClient.builder(), new ObjectMapper(), properties, hedging, circuitBreakers, providerEndpoints, rateLimiters);
         Path audio = Files.createTempFile("audio", ".m4a");
         Files.writeString(audio, "data");
-        TranscriptionResult result = transcriptionAdapter.transcribe(audio, "audio/mpeg");
+        TranscriptionResult result = transcriptionAdapter.transcribe(audio, "audio/mpeg", Deadline.none());
         assertThat(result.englishText()).contains("fallback");
 
-        OllamaFormatterAdapter formatterAdapter = new OllamaFormatterAdapter(RestClient.builder(), new ObjectMapper(), properties);
-        assertThat(formatterAdapter.format("Raw summary text")).isEqualTo("Raw summary text");
+        OllamaFormatterAdapter formatterAdapter = new OllamaFormatterAdapter(RestClient.builder(), new ObjectMapper(), properties, circuitBreakers, providerEndpoints);
+        assertThat(formatterAdapter.format("Raw summary text", Deadline.none())).isEqualTo("Raw summary text");
 
-        OpenAiTranslationAdapter translationAdapter = new OpenAiTranslationAdapter(RestClient.builder(), new ObjectMapper(), properties);
-        assertThat(translationAdapter.translateToEnglish("Waxaan la hadlay klinik", "so"))
+        OpenAiTranslationAdapter translationAdapter = new OpenAiTranslationAdapter(RestClient.builder(), new ObjectMapper(), properties, hedging, circuitBreakers, providerEndpoints, rateLimiters);
+        assertThat(translationAdapter.translateToEnglish("Waxaan la hadlay klinik", "so", Deadline.none()))
                 .isEqualTo("Waxaan la hadlay klinik");
         Files.deleteIfExists(audio);
     }
@@ -0,0 +1,94 @@
+package com.somtranscriber;
+
+import com.somtranscriber.common.web.ActuatorOnlyFilter;
+import com.somtranscriber.config.RunProperties;
+import com.somtranscriber.config.RunRole;
+import com.somtranscriber.config.RunRoleConfig;
+import com.somtranscriber.config.RunRoleEnvironmentPostProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RunRoleTest {
+
+    private final RunRoleEnvironmentPostProcessor postProcessor = new RunRoleEnvironmentPostProcessor();
+
+    @Test
+    void apiRoleTurnsOffRetryWorker() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.run.role", "api")
+                .withProperty("app.retry.worker.enabled", "true");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("app.retry.worker.enabled")).isEqualTo("false");
+    }
+
+    @Test
+    void workerRoleRunsRetryWorkerWithMinimalWebThreads() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.run.role", "WORKER")
+                .withProperty("app.retry.worker.enabled", "false");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("app.retry.worker.enabled")).isEqualTo("true");
+        assertThat(environment.getProperty("server.tomcat.threads.max")).isEqualTo("4");
+    }
+
+    @Test
+    void bothRoleLeavesConfigurationAlone() {
+        MockEnvironment environment = new MockEnvironment().withProperty("app.retry.worker.enabled", "false");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("app.retry.worker.enabled")).isEqualTo("false");
+        assertThat(environment.getProperty("server.tomcat.threads.max")).isNull();
+    }
+
+    @Test
+    void unknownRoleFailsStartup() {
+        MockEnvironment environment = new MockEnvironment().withProperty("app.run.role", "scheduler");
+
+        assertThatThrownBy(() -> postProcessor.postProcessEnvironment(environment, new SpringApplication()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("scheduler");
+    }
+
+    @Test
+    void workerWebLayerOnlyServesActuator() throws Exception {
+        ActuatorOnlyFilter filter = new ActuatorOnlyFilter();
+
+        MockHttpServletResponse api = new MockHttpServletResponse();
+        MockFilterChain apiChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/calls"), api, apiChain);
+
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        MockFilterChain healthChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health/readiness"), health, healthChain);
+
+        assertThat(api.getStatus()).isEqualTo(404);
+        assertThat(apiChain.getRequest()).isNull();
+        assertThat(healthChain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void mixedCaseWorkerRoleStillRestrictsTheWebLayerToActuator() {
+        MockEnvironment environment = new MockEnvironment().withProperty("app.run.role", "WORKER");
+        RunProperties runProperties = Binder.get(environment).bind("app.run", RunProperties.class).get();
+
+        FilterRegistrationBean<ActuatorOnlyFilter> registration = new RunRoleConfig().actuatorOnlyFilter(runProperties);
+
+        assertThat(runProperties.role()).isEqualTo(RunRole.WORKER);
+        assertThat(registration.isEnabled()).isTrue();
+        assertThat(new RunRoleConfig().actuatorOnlyFilter(new RunProperties(RunRole.BOTH)).isEnabled()).isFalse();
+    }
+}
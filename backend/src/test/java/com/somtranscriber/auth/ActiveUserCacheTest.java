@@ -0,0 +1,63 @@
+package com.somtranscriber.auth;
+
+import com.somtranscriber.auth.model.UserEntity;
+import com.somtranscriber.auth.model.UserRole;
+import com.somtranscriber.auth.model.UserStatus;
+import com.somtranscriber.auth.service.ActiveUserCache;
+import com.somtranscriber.config.AuthProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveUserCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    void invalidationEvictsLocallyAndTellsOtherPods() {
+        ActiveUserCache cache = new ActiveUserCache(
+                new AuthProperties(Duration.ofMinutes(5), true, "user-invalidations", "database", "refresh-token:"),
+                redisTemplate,
+                new SimpleMeterRegistry()
+        );
+        UUID userId = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        UserEntity user = user(userId);
+
+        assertThat(cache.findActive(userId, () -> load(loads, user))).isPresent();
+        assertThat(cache.findActive(userId, () -> load(loads, user))).isPresent();
+        user.setStatus(UserStatus.DISABLED);
+        cache.invalidate(userId);
+
+        assertThat(cache.findActive(userId, () -> load(loads, user))).isEmpty();
+        assertThat(loads).hasValue(2);
+        verify(redisTemplate).convertAndSend("user-invalidations", userId.toString());
+    }
+
+    private static Optional<UserEntity> load(AtomicInteger loads, UserEntity user) {
+        loads.incrementAndGet();
+        return Optional.of(user);
+    }
+
+    private static UserEntity user(UUID userId) {
+        UserEntity user = new UserEntity();
+        user.setId(userId);
+        user.setEmail("worker@example.com");
+        user.setRole(UserRole.WORKER);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+}
@@ -0,0 +1,108 @@
+package com.somtranscriber.auth;
+
+import com.somtranscriber.auth.service.PasswordHasher;
+import com.somtranscriber.common.exception.ServiceUnavailableException;
+import com.somtranscriber.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void hashesOnTheDedicatedPoolAndRecordsTimings() {
+        PasswordHasher hasher = hasher(new PasswordHashingProperties(1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1)), false);
+
+        assertThat(hasher.encode("123456")).isEqualTo("hashed:123456");
+        assertThat(hasher.matches("123456", "hashed:123456")).isTrue();
+        assertThat(meterRegistry.timer("auth.password.hash", "operation", "encode").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("auth.password.queue.wait", "operation", "matches").count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        PasswordHasher hasher = hasher(new PasswordHashingProperties(1, 1, Duration.ofSeconds(5), Duration.ofSeconds(5)), true);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("second"));
+        awaitQueued();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> hasher.encode("third"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .satisfies(exception -> assertThat(((ServiceUnavailableException) exception).getRetryAfter()).isPositive());
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+        assertThat(meterRegistry.counter("auth.password.rejected.total", "reason", "queue_full").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void abandonsWorkThatWaitedPastTheQueueTimeout() throws Exception {
+        PasswordHasher hasher = hasher(new PasswordHashingProperties(1, 4, Duration.ofMillis(50), Duration.ofSeconds(5)), true);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("second"));
+        awaitQueued();
+
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("auth.password.rejected.total", "reason", "queue_timeout").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.timer("auth.password.hash", "operation", "encode").count()).isEqualTo(1);
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private PasswordHasher hasher(PasswordHashingProperties properties, boolean blockFirst) {
+        PasswordEncoder encoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (blockFirst && "first".contentEquals(rawPassword)) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals("hashed:" + rawPassword);
+            }
+        };
+        return new PasswordHasher(encoder, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,81 @@
+package com.somtranscriber.auth;
+
+import com.somtranscriber.auth.service.RefreshTokenPurgeService;
+import com.somtranscriber.common.db.ClusterLock;
+import com.somtranscriber.config.RefreshTokenPurgeProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenPurgeServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void deletesInChunksUntilAShortChunk() {
+        runTasksUnderLock();
+        when(jdbcTemplate.update(anyString(), any(Timestamp.class), any(Timestamp.class), eq(100)))
+                .thenReturn(100, 100, 37);
+
+        service(new RefreshTokenPurgeProperties(true, 100, 10, Duration.ofDays(1))).purge();
+
+        verify(jdbcTemplate, times(3)).update(anyString(), any(Timestamp.class), any(Timestamp.class), eq(100));
+        assertThat(meterRegistry.counter("auth.refresh_tokens.purged.total").count()).isEqualTo(237.0);
+        assertThat(meterRegistry.timer("auth.refresh_tokens.purge.chunk").count()).isEqualTo(3);
+    }
+
+    @Test
+    void stopsAfterTheChunkBudget() {
+        runTasksUnderLock();
+        when(jdbcTemplate.update(anyString(), any(Timestamp.class), any(Timestamp.class), eq(50))).thenReturn(50);
+
+        service(new RefreshTokenPurgeProperties(true, 50, 4, Duration.ofDays(1))).purge();
+
+        verify(jdbcTemplate, times(4)).update(anyString(), any(Timestamp.class), any(Timestamp.class), eq(50));
+    }
+
+    @Test
+    void skipsWhenAnotherInstanceHoldsTheLock() {
+        when(clusterLock.runExclusively(eq("refresh-token-purge"), any())).thenReturn(false);
+
+        service(new RefreshTokenPurgeProperties(true, 100, 10, Duration.ofDays(1))).purge();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void runTasksUnderLock() {
+        when(clusterLock.runExclusively(eq("refresh-token-purge"), any())).thenAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    private RefreshTokenPurgeService service(RefreshTokenPurgeProperties properties) {
+        return new RefreshTokenPurgeService(jdbcTemplate, clusterLock, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,104 @@
+package com.somtranscriber.auth;
+
+import com.somtranscriber.auth.model.RefreshTokenEntity;
+import com.somtranscriber.auth.model.UserRole;
+import com.somtranscriber.auth.repo.RefreshTokenRepository;
+import com.somtranscriber.auth.service.DatabaseRefreshTokenStore;
+import com.somtranscriber.auth.service.RedisRefreshTokenStore;
+import com.somtranscriber.common.security.JwtService;
+import com.somtranscriber.common.util.Hashing;
+import com.somtranscriber.config.AuthProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+    private final JwtService.ParsedToken consumed = new JwtService.ParsedToken(
+            userId, "worker@example.com", UserRole.WORKER, "refresh", "old-jti", Instant.now().plus(Duration.ofDays(1)));
+    private final JwtService.TokenData replacement = new JwtService.TokenData("new-token", Instant.now().plus(Duration.ofDays(30)), "new-jti");
+
+    @Test
+    void databaseRotationRevokesConditionallyThenInsertsReplacement() {
+        DatabaseRefreshTokenStore store = new DatabaseRefreshTokenStore(refreshTokenRepository);
+        when(refreshTokenRepository.revokeIfActive(eq("old-jti"), eq(Hashing.sha256Hex("old-token")), eq(userId), any()))
+                .thenReturn(1);
+
+        assertThat(store.rotate(consumed, "old-token", replacement)).isTrue();
+
+        ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getTokenId()).isEqualTo("new-jti");
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(Hashing.sha256Hex("new-token"));
+        assertThat(saved.getValue().getUserId()).isEqualTo(userId);
+    }
+
+    @Test
+    void databaseRotationRejectsAlreadyConsumedTokens() {
+        DatabaseRefreshTokenStore store = new DatabaseRefreshTokenStore(refreshTokenRepository);
+        when(refreshTokenRepository.revokeIfActive(anyString(), anyString(), any(), any())).thenReturn(0);
+
+        assertThat(store.rotate(consumed, "old-token", replacement)).isFalse();
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisRotationConsumesTheStoredTokenOnceAndStoresTheReplacement() {
+        RedisRefreshTokenStore store = redisStore();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L, 0L);
+
+        assertThat(store.rotate(consumed, "old-token", replacement)).isTrue();
+        assertThat(store.rotate(consumed, "old-token", replacement)).isFalse();
+
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class),
+                eq(List.of("refresh-token:old-jti", "refresh-token:new-jti")),
+                eq(Hashing.sha256Hex("old-token")), eq(Hashing.sha256Hex("new-token")), anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisStoreKeepsIssuedTokensOnlyUntilTheyExpire() {
+        RedisRefreshTokenStore store = redisStore();
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+
+        store.store(replacement, userId);
+        store.store(new JwtService.TokenData("stale-token", Instant.now().minusSeconds(1), "stale-jti"), userId);
+
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(values).set(eq("refresh-token:new-jti"), eq(Hashing.sha256Hex("new-token")), ttl.capture());
+        assertThat(ttl.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofDays(30));
+        verifyNoMoreInteractions(values);
+    }
+
+    private RedisRefreshTokenStore redisStore() {
+        return new RedisRefreshTokenStore(redisTemplate,
+                new AuthProperties(Duration.ofMinutes(5), false, "users", "redis", "refresh-token:"));
+    }
+}
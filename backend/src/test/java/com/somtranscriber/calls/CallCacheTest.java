@@ -0,0 +1,173 @@
+package com.somtranscriber.calls;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.somtranscriber.calls.cache.CallCache;
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.calls.model.CallStatus;
+import com.somtranscriber.config.CallCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CallCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void servesFinalizedCallsFromNearCacheWithCompressedText() throws Exception {
+        CallCache cache = cache(false);
+        CallRecordEntity call = call(CallStatus.FINALIZED, "Patient follow-up confirmed. ".repeat(100));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(call.getId(), () -> {
+            loads.incrementAndGet();
+            return Optional.of(call);
+        });
+        CallRecordEntity cached = cache.get(call.getId(), () -> {
+            loads.incrementAndGet();
+            return Optional.of(call);
+        }).orElseThrow();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cached).isNotSameAs(call);
+        assertThat(cached.getFinalText()).isEqualTo(call.getFinalText());
+        assertThat(cached.getUpdatedAt()).isEqualTo(call.getUpdatedAt());
+        assertThat(nearWeightBytes())
+                .isPositive()
+                .isLessThan(call.getFinalText().length());
+        assertThat(meterRegistry.get("calls.cache.near.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void doesNotCacheCallsStillInProgress() {
+        CallCache cache = cache(false);
+        CallRecordEntity call = call(CallStatus.TRANSCRIBING, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            cache.get(call.getId(), () -> {
+                loads.incrementAndGet();
+                return Optional.of(call);
+            });
+        }
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void skipsPopulatingWhenInvalidatedDuringLoad() {
+        CallCache cache = cache(false);
+        CallRecordEntity call = call(CallStatus.READY, "draft");
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(call.getId(), () -> {
+            loads.incrementAndGet();
+            cache.evictLocal(call.getId());
+            return Optional.of(call);
+        });
+        cache.get(call.getId(), () -> {
+            loads.incrementAndGet();
+            return Optional.of(call);
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void readsThroughSharedTierAndPublishesInvalidations() throws Exception {
+        CallCache cache = cache(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        CallRecordEntity call = call(CallStatus.FINALIZED, "final note");
+        when(valueOperations.get("calls:" + call.getId())).thenReturn(null);
+
+        cache.get(call.getId(), () -> Optional.of(call));
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("calls:" + call.getId()), payload.capture(), eq(Duration.ofHours(1)));
+
+        cache.invalidate(call.getId());
+        verify(redisTemplate).delete("calls:" + call.getId());
+        verify(redisTemplate).convertAndSend("call-invalidations", call.getId().toString());
+
+        when(valueOperations.get("calls:" + call.getId())).thenReturn(payload.getValue());
+        CallRecordEntity shared = cache.get(call.getId(), Optional::empty).orElseThrow();
+        assertThat(shared.getFinalText()).isEqualTo("final note");
+        assertThat(meterRegistry.counter("calls.cache.redis.requests.total", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fallsBackToLoaderWhenRedisFails() {
+        CallCache cache = cache(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("redis down"));
+        doThrow(new IllegalStateException("redis down")).when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        CallRecordEntity call = call(CallStatus.FINALIZED, "final note");
+
+        assertThat(cache.get(call.getId(), () -> Optional.of(call))).contains(call);
+        assertThat(meterRegistry.counter("calls.cache.redis.errors.total").count()).isEqualTo(2.0);
+    }
+
+    private CallCache cache(boolean redisEnabled) {
+        CallCacheProperties properties = new CallCacheProperties(
+                true, 1_048_576, 256, Duration.ofMinutes(5), redisEnabled, Duration.ofHours(1), "calls:", "call-invalidations");
+        return new CallCache(properties, redisTemplate, objectMapper, meterRegistry);
+    }
+
+    private CallRecordEntity call(CallStatus status, String text) {
+        CallRecordEntity call = new CallRecordEntity();
+        call.setId(UUID.randomUUID());
+        call.setUserId(UUID.randomUUID());
+        call.setCallAt(Instant.now());
+        call.setStatus(status);
+        call.setNoteText(text);
+        if (status == CallStatus.FINALIZED) {
+            call.setFinalText(text);
+            call.setFinalizedAt(Instant.now());
+        }
+        call.setCreatedAt(Instant.now());
+        call.setUpdatedAt(Instant.now());
+        return call;
+    }
+
+    private double nearWeightBytes() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        double weight = meterRegistry.get("calls.cache.near.weight.bytes").gauge().value();
+        while (weight == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            weight = meterRegistry.get("calls.cache.near.weight.bytes").gauge().value();
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,129 @@
+package com.somtranscriber.common;
+
+import com.somtranscriber.auth.model.UserEntity;
+import com.somtranscriber.auth.model.UserRole;
+import com.somtranscriber.common.jfr.JfrRecorder;
+import com.somtranscriber.common.security.JwtService;
+import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.config.JfrProperties;
+import com.somtranscriber.processing.adapter.LocalAudioStorageService;
+import com.somtranscriber.processing.model.PipelineStage;
+import com.somtranscriber.processing.service.PipelineObservations;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void jwtVerificationEmitsEventsWithCacheOutcome() throws Exception {
+        JwtService jwtService = new JwtService(properties(), new SimpleMeterRegistry());
+        UserEntity user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setEmail("worker@example.com");
+        user.setRole(UserRole.WORKER);
+        String token = jwtService.generateAccessToken(user).token();
+
+        List<RecordedEvent> events = record("com.somtranscriber.JwtVerify", () -> {
+            jwtService.verifyAccessToken(token);
+            jwtService.verifyAccessToken(token);
+        });
+
+        assertThat(events).extracting(event -> event.getBoolean("cacheHit")).containsExactly(false, true);
+        assertThat(events).allMatch(event -> event.getBoolean("valid"));
+    }
+
+    @Test
+    void pipelineStageEventCarriesCallAndPayloadSizes() throws Exception {
+        PipelineObservations observations = new PipelineObservations(ObservationRegistry.NOOP, new SimpleMeterRegistry());
+        UUID callId = UUID.randomUUID();
+
+        List<RecordedEvent> events = record("com.somtranscriber.PipelineStage", () ->
+                observations.start(PipelineStage.FORMAT, callId, "qwen2.5:3b")
+                        .bytesIn("Caller asked about the invoice")
+                        .bytesOut("Caller asked about the invoice ✓")
+                        .stop());
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("callId")).isEqualTo(callId.toString());
+        assertThat(event.getString("stage")).isEqualTo("FORMAT");
+        assertThat(event.getString("model")).isEqualTo("qwen2.5:3b");
+        assertThat(event.getLong("bytesIn")).isEqualTo(30);
+        assertThat(event.getLong("bytesOut")).isEqualTo(34);
+    }
+
+    @Test
+    void audioStoreEventRecordsBytesAndWriteTime() throws Exception {
+        LocalAudioStorageService storage = new LocalAudioStorageService(properties());
+        byte[] audio = new byte[4096];
+
+        List<RecordedEvent> events = record("com.somtranscriber.AudioStore", () ->
+                storage.store(new MockMultipartFile("file", "call.wav", "audio/wav", audio)));
+
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getLong("bytes")).isEqualTo(4096);
+        assertThat(event.getLong("writeNanos")).isPositive();
+        assertThat(Files.size(storage.resolve(event.getString("key")))).isEqualTo(4096);
+    }
+
+    @Test
+    void recorderStartsDumpsAndStops() throws Exception {
+        JfrRecorder recorder = new JfrRecorder(new JfrProperties(false, "default", Duration.ofMinutes(5), null,
+                tempDir.resolve("jfr").toString()));
+
+        assertThat(recorder.dump()).isEmpty();
+        assertThat(recorder.start(null, null).state()).isEqualTo("RUNNING");
+        assertThat(recorder.start("profile", null).settings()).isEqualTo("default");
+
+        Path dump = recorder.dump().orElseThrow();
+        assertThat(Files.size(dump)).isPositive();
+        assertThat(recorder.stop().state()).isEqualTo("CLOSED");
+    }
+
+    private AppProperties properties() {
+        return new AppProperties(
+                new AppProperties.Jwt("issuer", 15, 30, "short-secret", 100),
+                new AppProperties.Audio(tempDir.resolve("audio").toString(), 120),
+                new AppProperties.OpenAi("", "gpt-4o-transcribe", "gpt-4o-mini", "https://api.openai.com"),
+                new AppProperties.Ollama("", "qwen2.5:3b"),
+                new AppProperties.Retry("queue", 3, false, new AppProperties.Retry.Worker(false, 2000, 5)),
+                new AppProperties.Cors(List.of("http://localhost"))
+        );
+    }
+
+    private List<RecordedEvent> record(String eventName, ThrowingRunnable work) throws Exception {
+        Path file = tempDir.resolve(UUID.randomUUID() + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
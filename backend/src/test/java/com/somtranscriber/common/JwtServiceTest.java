@@ -0,0 +1,76 @@
+package com.somtranscriber.common;
+
+import com.somtranscriber.auth.model.UserEntity;
+import com.somtranscriber.auth.model.UserRole;
+import com.somtranscriber.common.exception.UnauthorizedException;
+import com.somtranscriber.common.security.JwtService;
+import com.somtranscriber.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AppProperties properties = new AppProperties(
+                new AppProperties.Jwt("issuer", 15, 30, "short-secret", 100),
+                new AppProperties.Audio("/tmp/audio", 120),
+                new AppProperties.OpenAi("", "gpt-4o-transcribe", "gpt-4o-mini", "https://api.openai.com"),
+                new AppProperties.Ollama("", "qwen2.5:3b"),
+                new AppProperties.Retry("queue", 3, false, new AppProperties.Retry.Worker(false, 2000, 5)),
+                new AppProperties.Cors(List.of("http://localhost"))
+        );
+        jwtService = new JwtService(properties, meterRegistry);
+
+        user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setEmail("worker@example.com");
+        user.setRole(UserRole.WORKER);
+    }
+
+    @Test
+    void verifiedAccessTokensAreServedFromCache() {
+        String token = jwtService.generateAccessToken(user).token();
+
+        JwtService.ParsedToken first = jwtService.verifyAccessToken(token);
+        JwtService.ParsedToken second = jwtService.verifyAccessToken(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.userId()).isEqualTo(user.getId());
+        assertThat(first.role()).isEqualTo(UserRole.WORKER);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void refreshTokensAreNotAcceptedAsAccessTokens() {
+        String refresh = jwtService.generateRefreshToken(user).token();
+
+        assertThatThrownBy(() -> jwtService.verifyAccessToken(refresh))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Expected access token");
+        assertThat(jwtService.parse(refresh).tokenType()).isEqualTo("refresh");
+    }
+
+    @Test
+    void tamperedTokensFailWithoutCapturingStackTraces() {
+        String token = jwtService.generateAccessToken(user).token();
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.verifyAccessToken(tampered))
+                .isInstanceOf(UnauthorizedException.class)
+                .satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+    }
+}
@@ -0,0 +1,120 @@
+package com.somtranscriber.common;
+
+import com.somtranscriber.common.db.ClusterLock;
+import com.somtranscriber.common.db.PartitionMaintenanceService;
+import com.somtranscriber.config.PartitionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceServiceTest {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ClusterLock clusterLock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void createsPartitionsForCurrentAndUpcomingMonths() {
+        runTasksUnderLock();
+        when(jdbcTemplate.queryForObject(eq("SELECT create_monthly_partition(?, ?)"), eq(Boolean.class), anyString(), any(Date.class)))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("job_attempts"))).thenReturn(List.of());
+
+        service(new PartitionProperties(true, 2, 6, "")).maintainPartitions();
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (String table : List.of("call_records", "job_attempts")) {
+            for (int offset = 0; offset <= 2; offset++) {
+                verify(jdbcTemplate).queryForObject("SELECT create_monthly_partition(?, ?)", Boolean.class,
+                        table, Date.valueOf(current.plusMonths(offset).atDay(1)));
+            }
+        }
+        assertThat(meterRegistry.counter("db.partitions.created.total", "table", "call_records").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void dropsJobAttemptPartitionsOlderThanRetention() {
+        runTasksUnderLock();
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        String expired = "job_attempts_p" + current.minusMonths(7).format(SUFFIX);
+        String retained = "job_attempts_p" + current.minusMonths(6).format(SUFFIX);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("job_attempts")))
+                .thenReturn(List.of(expired, retained, "job_attempts_default"));
+
+        service(new PartitionProperties(true, 0, 6, "")).maintainPartitions();
+
+        verify(jdbcTemplate).execute("ALTER TABLE job_attempts DETACH PARTITION " + expired);
+        verify(jdbcTemplate).execute("DROP TABLE " + expired);
+        verify(jdbcTemplate, never()).execute("ALTER TABLE job_attempts DETACH PARTITION " + retained);
+        verify(jdbcTemplate, never()).execute("ALTER TABLE job_attempts DETACH PARTITION job_attempts_default");
+    }
+
+    @Test
+    void archivesExpiredPartitionsWhenSchemaConfigured() {
+        runTasksUnderLock();
+        String expired = "job_attempts_p" + YearMonth.now(ZoneOffset.UTC).minusMonths(4).format(SUFFIX);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("job_attempts"))).thenReturn(List.of(expired));
+
+        service(new PartitionProperties(true, 0, 3, "archive")).maintainPartitions();
+
+        verify(jdbcTemplate).execute("ALTER TABLE job_attempts DETACH PARTITION " + expired);
+        verify(jdbcTemplate).execute("CREATE SCHEMA IF NOT EXISTS archive");
+        verify(jdbcTemplate).execute("ALTER TABLE " + expired + " SET SCHEMA archive");
+        verify(jdbcTemplate, never()).execute("DROP TABLE " + expired);
+    }
+
+    @Test
+    void skipsWorkWhenAnotherInstanceHoldsTheLock() {
+        when(clusterLock.runExclusively(eq("partition-maintenance"), any())).thenReturn(false);
+
+        service(new PartitionProperties(true, 3, 6, "")).maintainPartitions();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void rejectsUnsafeArchiveSchema() {
+        assertThatThrownBy(() -> service(new PartitionProperties(true, 3, 6, "archive; drop table users")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void runTasksUnderLock() {
+        when(clusterLock.runExclusively(eq("partition-maintenance"), any())).thenAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return true;
+        });
+    }
+
+    private PartitionMaintenanceService service(PartitionProperties properties) {
+        return new PartitionMaintenanceService(jdbcTemplate, clusterLock, properties, meterRegistry);
+    }
+}
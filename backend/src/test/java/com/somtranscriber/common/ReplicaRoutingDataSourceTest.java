@@ -0,0 +1,196 @@
+package com.somtranscriber.common;
+
+import com.somtranscriber.auth.model.UserRole;
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.calls.repo.CallReadYourWritesListener;
+import com.somtranscriber.common.db.ReadYourWritesTracker;
+import com.somtranscriber.common.db.ReplicaRoutingDataSource;
+import com.somtranscriber.common.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readYourWritesTracker = new ReadYourWritesTracker(Duration.ofSeconds(10), redisTemplate, "ryw:");
+        routingDataSource = new ReplicaRoutingDataSource(
+                primary,
+                replica,
+                readYourWritesTracker,
+                Duration.ofSeconds(5),
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() throws Exception {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(routingCount("replica", "read_only")).isEqualTo(1.0);
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void readsAfterAWriteByTheSameUserStayOnPrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        UUID writer = UUID.randomUUID();
+
+        authenticate(writer);
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+
+        authenticate(UUID.randomUUID());
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(routingCount("primary", "read_your_writes")).isEqualTo(1.0);
+        verify(valueOperations, atLeastOnce()).set("ryw:" + writer, "1", Duration.ofSeconds(10));
+    }
+
+    @Test
+    void writesRecordedByAnotherPodKeepReadsOnPrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        UUID writer = UUID.randomUUID();
+        when(redisTemplate.hasKey("ryw:" + writer)).thenReturn(true);
+
+        authenticate(writer);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void pipelineWritesCountAsWritesByTheCallOwner() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("readYourWritesTracker", readYourWritesTracker);
+        CallRecordEntity call = new CallRecordEntity();
+        call.setUserId(UUID.randomUUID());
+
+        new CallReadYourWritesListener(beans.getBeanProvider(ReadYourWritesTracker.class)).onWrite(call);
+
+        assertThat(readYourWritesTracker.requiresPrimary(call.getUserId())).isTrue();
+        verify(valueOperations).set("ryw:" + call.getUserId(), "1", Duration.ofSeconds(10));
+    }
+
+    @Test
+    void pinnedReadsUsePrimaryWithoutCountingAsWrites() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        authenticate(UUID.randomUUID());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection pinned = ReplicaRoutingDataSource.onPrimary(this::connection);
+
+        assertThat(pinned).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(routingCount("primary", "pinned")).isEqualTo(1.0);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        routingDataSource.updateReplicaLag(Duration.ofSeconds(30));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routingCount("primary", "replica_lagging")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("datasource.replica.lag.seconds").gauge().value()).isEqualTo(30.0);
+    }
+
+    @Test
+    void replicaConnectionFailureFallsBackUntilNextHealthyLagCheck() throws Exception {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenThrow(new SQLException("replica down")).thenReturn(replicaConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replica, times(1)).getConnection();
+
+        routingDataSource.updateReplicaLag(Duration.ZERO);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(routingCount("primary", "replica_unavailable")).isEqualTo(2.0);
+    }
+
+    private Connection connection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (SQLException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private void authenticate(UUID userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "worker@example.com", UserRole.WORKER);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private double routingCount(String target, String reason) {
+        return meterRegistry.counter("datasource.routing.total", "target", target, "reason", reason).count();
+    }
+}
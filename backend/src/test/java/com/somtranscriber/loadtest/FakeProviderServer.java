@@ -0,0 +1,109 @@
+package com.somtranscriber.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+final class FakeProviderServer implements AutoCloseable {
+
+    static final String ENGLISH_TEXT = "The caller said the water pump in the village stopped working on Monday "
+            + "and the family needs help before Friday because the children are walking two hours for water.";
+
+    private static final String TRANSCRIPTION_RESPONSE = """
+            {"text":"Wacaha ayaa sheegay in biyo-saarka tuulada uu istaagay Isniinta.","language":"somali"}
+            """;
+    private static final String TRANSLATION_RESPONSE = """
+            {"choices":[{"message":{"role":"assistant","content":"%s"}}]}
+            """.formatted(ENGLISH_TEXT);
+    private static final String FORMATTER_RESPONSE = """
+            {"response":"%s","done":true}
+            """.formatted(ENGLISH_TEXT);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    private FakeProviderServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static FakeProviderServer start(LatencyProfile transcription, LatencyProfile translation, LatencyProfile formatter) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            ExecutorService executor = Executors.newCachedThreadPool();
+            FakeProviderServer provider = new FakeProviderServer(server, executor);
+            server.createContext("/v1/audio/transcriptions",
+                    exchange -> provider.respond(exchange, "transcription", transcription, TRANSCRIPTION_RESPONSE));
+            server.createContext("/v1/chat/completions",
+                    exchange -> provider.respond(exchange, "translation", translation, TRANSLATION_RESPONSE));
+            server.createContext("/api/generate",
+                    exchange -> provider.respond(exchange, "formatter", formatter, FORMATTER_RESPONSE));
+            server.setExecutor(executor);
+            server.start();
+            return provider;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to start fake provider", exception);
+        }
+    }
+
+    String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    Map<String, LongAdder> outcomes() {
+        return outcomes;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void respond(HttpExchange exchange, String route, LatencyProfile profile, String body) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            sleep(profile.sampleMillis(random));
+
+            double roll = random.nextDouble();
+            if (roll < profile.throttleRate()) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                send(exchange, route, 429, "{\"error\":{\"message\":\"Rate limit reached\",\"type\":\"requests\"}}");
+            } else if (roll < profile.throttleRate() + profile.errorRate()) {
+                send(exchange, route, 500, "{\"error\":{\"message\":\"Internal server error\"}}");
+            } else {
+                send(exchange, route, 200, body);
+            }
+        }
+    }
+
+    private void send(HttpExchange exchange, String route, int status, String body) throws IOException {
+        outcomes.computeIfAbsent(route + " " + status, key -> new LongAdder()).increment();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(Math.max(0, millis));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
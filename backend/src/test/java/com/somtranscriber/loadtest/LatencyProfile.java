@@ -0,0 +1,31 @@
+package com.somtranscriber.loadtest;
+
+import java.time.Duration;
+import java.util.Random;
+
+record LatencyProfile(
+        Duration median,
+        double sigma,
+        double errorRate,
+        double throttleRate
+) {
+
+    static LatencyProfile fromSystemProperties(String route, Duration defaultMedian) {
+        String prefix = "loadtest." + route + ".";
+        return new LatencyProfile(
+                Duration.ofMillis(Long.getLong(prefix + "median-ms", defaultMedian.toMillis())),
+                doubleProperty(prefix + "sigma", 0.5),
+                doubleProperty(prefix + "error-rate", 0.01),
+                doubleProperty(prefix + "throttle-rate", 0.02)
+        );
+    }
+
+    long sampleMillis(Random random) {
+        return Math.round(median.toMillis() * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,108 @@
+package com.somtranscriber.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+final class LoadReport {
+
+    private static final List<String> PIPELINE_TIMERS = List.of(
+            "calls.stage",
+            "calls.queue.wait",
+            "calls.upload.to.ready"
+    );
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+
+    void record(String endpoint, int status, long nanos) {
+        timer("loadtest.endpoint", endpoint).record(nanos, TimeUnit.NANOSECONDS);
+        statuses.computeIfAbsent(endpoint + " " + status, key -> new LongAdder()).increment();
+        requests.increment();
+        if (status >= 500 || status == 0) {
+            failures.increment();
+        }
+    }
+
+    void recordFlow(String name, Duration duration) {
+        timer("loadtest.flow", name).record(duration);
+    }
+
+    double failureRatio() {
+        long total = requests.sum();
+        return total == 0 ? 0 : (double) failures.sum() / total;
+    }
+
+    String render(MeterRegistry applicationRegistry, Map<String, LongAdder> providerOutcomes, Duration elapsed) {
+        StringBuilder out = new StringBuilder();
+        out.append("Load test finished in ").append(elapsed.toSeconds()).append("s, ")
+                .append(requests.sum()).append(" requests, ")
+                .append(String.format("%.2f%%", failureRatio() * 100)).append(" failed\n\n");
+
+        header(out, "endpoint");
+        registry.find("loadtest.endpoint").timers().stream()
+                .sorted((left, right) -> left.getId().getTag("name").compareTo(right.getId().getTag("name")))
+                .forEach(timer -> row(out, timer.getId().getTag("name"), timer.takeSnapshot()));
+        registry.find("loadtest.flow").timers()
+                .forEach(timer -> row(out, "flow " + timer.getId().getTag("name"), timer.takeSnapshot()));
+
+        out.append('\n');
+        header(out, "stage");
+        for (String name : PIPELINE_TIMERS) {
+            applicationRegistry.find(name).timers().stream()
+                    .map(timer -> Map.entry(label(timer), timer))
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> row(out, entry.getKey(), entry.getValue().takeSnapshot()));
+        }
+
+        out.append("\nResponses\n");
+        new TreeMap<>(statuses).forEach((key, count) -> out.append(String.format("  %-28s %8d%n", key, count.sum())));
+        out.append("\nProvider\n");
+        new TreeMap<>(providerOutcomes).forEach((key, count) -> out.append(String.format("  %-28s %8d%n", key, count.sum())));
+        return out.toString();
+    }
+
+    private Timer timer(String meter, String name) {
+        return Timer.builder(meter)
+                .tag("name", name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .percentilePrecision(2)
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .distributionStatisticBufferLength(1)
+                .register(registry);
+    }
+
+    private static String label(Timer timer) {
+        StringBuilder label = new StringBuilder(timer.getId().getName());
+        timer.getId().getTags().stream()
+                .filter(tag -> !tag.getKey().equals("error"))
+                .forEach(tag -> label.append(' ').append(tag.getValue()));
+        return label.toString();
+    }
+
+    private static void header(StringBuilder out, String label) {
+        out.append(String.format("%-56s %8s %10s %10s %10s %10s%n", label, "count", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+    }
+
+    private static void row(StringBuilder out, String name, HistogramSnapshot snapshot) {
+        double[] percentiles = new double[3];
+        ValueAtPercentile[] values = snapshot.percentileValues();
+        for (int i = 0; i < Math.min(values.length, percentiles.length); i++) {
+            percentiles[i] = values[i].value(TimeUnit.MILLISECONDS);
+        }
+        out.append(String.format("%-56s %8d %10.1f %10.1f %10.1f %10.1f%n",
+                name, snapshot.count(), percentiles[0], percentiles[1], percentiles[2], snapshot.max(TimeUnit.MILLISECONDS)));
+    }
+}
@@ -0,0 +1,226 @@
+package com.somtranscriber.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.somtranscriber.auth.model.UserEntity;
+import com.somtranscriber.auth.model.UserRole;
+import com.somtranscriber.auth.model.UserStatus;
+import com.somtranscriber.auth.repo.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "loadtest"})
+class PipelineLoadIT {
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("READY", "READY_WITH_WARNING", "FAILED", "FINALIZED");
+
+    private static final FakeProviderServer PROVIDER = FakeProviderServer.start(
+            LatencyProfile.fromSystemProperties("transcription", Duration.ofMillis(800)),
+            LatencyProfile.fromSystemProperties("translation", Duration.ofMillis(400)),
+            LatencyProfile.fromSystemProperties("formatter", Duration.ofMillis(600))
+    );
+
+    @DynamicPropertySource
+    static void providerProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.openai.api-key", () -> "load-test");
+        registry.add("app.openai.base-url", PROVIDER::baseUrl);
+        registry.add("app.ollama.base-url", PROVIDER::baseUrl);
+    }
+
+    @AfterAll
+    static void stopProvider() {
+        PROVIDER.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newCachedThreadPool())
+            .build();
+
+    private final LoadReport report = new LoadReport();
+
+    @Test
+    void drivesCallFlowsAtTargetRate() throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "2"));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+        double maxFailureRatio = Double.parseDouble(System.getProperty("loadtest.max-failure-ratio", "0.01"));
+        List<String> tokens = loginUsers(Integer.getInteger("loadtest.users", 10));
+
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService flows = Executors.newCachedThreadPool();
+        List<Future<?>> running = new CopyOnWriteArrayList<>();
+        Instant start = Instant.now();
+        ticker.scheduleAtFixedRate(
+                () -> running.add(flows.submit(() -> runFlow(tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()))))),
+                0,
+                Math.round(1_000_000_000 / rate),
+                TimeUnit.NANOSECONDS
+        );
+        Thread.sleep(duration.toMillis());
+        ticker.shutdownNow();
+
+        for (Future<?> flow : running) {
+            try {
+                flow.get(2, TimeUnit.MINUTES);
+            } catch (TimeoutException exception) {
+                flow.cancel(true);
+            }
+        }
+        flows.shutdownNow();
+
+        String rendered = report.render(meterRegistry, PROVIDER.outcomes(), Duration.between(start, Instant.now()));
+        System.out.println(rendered);
+        Path output = Path.of("target", "loadtest", "report.txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, rendered);
+
+        assertThat(running).isNotEmpty();
+        assertThat(report.failureRatio()).isLessThanOrEqualTo(maxFailureRatio);
+    }
+
+    private void runFlow(String token) {
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Instant flowStart = Instant.now();
+            JsonNode created = send("create", token, HttpRequest.newBuilder(uri("/v1/calls"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"callAt\":\"" + Instant.now() + "\"}")));
+            if (created == null) {
+                return;
+            }
+            String callId = created.get("callId").asText();
+
+            int durationSeconds = 5 + random.nextInt(56);
+            String boundary = UUID.randomUUID().toString();
+            Instant uploadStart = Instant.now();
+            JsonNode call = send("upload", token, HttpRequest.newBuilder(
+                            uri("/v1/calls/" + callId + "/audio?durationSeconds=" + durationSeconds))
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            multipart(boundary, SyntheticWav.generate(durationSeconds, random)))));
+
+            Instant pollDeadline = Instant.now().plus(Duration.ofMinutes(2));
+            while (call != null && Instant.now().isBefore(pollDeadline)) {
+                call = send("poll", token, HttpRequest.newBuilder(uri("/v1/calls/" + callId)).GET());
+                if (call == null || TERMINAL_STATUSES.contains(call.path("status").asText())) {
+                    break;
+                }
+                Thread.sleep(500);
+            }
+            if (call == null) {
+                return;
+            }
+            report.recordFlow("upload_to_" + call.path("status").asText().toLowerCase(), Duration.between(uploadStart, Instant.now()));
+
+            if (call.path("status").asText().startsWith("READY")) {
+                send("finalize", token, HttpRequest.newBuilder(uri("/v1/calls/" + callId + "/finalize"))
+                        .POST(HttpRequest.BodyPublishers.noBody()));
+                report.recordFlow("create_to_finalized", Duration.between(flowStart, Instant.now()));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private JsonNode send(String endpoint, String token, HttpRequest.Builder request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    request.header("Authorization", "Bearer " + token).timeout(Duration.ofMinutes(2)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            report.record(endpoint, response.statusCode(), System.nanoTime() - start);
+            return response.statusCode() / 100 == 2 ? objectMapper.readTree(response.body()) : null;
+        } catch (InterruptedException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            report.record(endpoint, 0, System.nanoTime() - start);
+            return null;
+        }
+    }
+
+    private List<String> loginUsers(int count) throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String email = "load-" + i + "-" + UUID.randomUUID() + "@example.com";
+            UserEntity user = new UserEntity();
+            user.setEmail(email);
+            user.setPasswordHash(passwordEncoder.encode("123456"));
+            user.setRole(UserRole.WORKER);
+            user.setStatus(UserStatus.ACTIVE);
+            userRepository.save(user);
+
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri("/v1/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"username\":\"" + email + "\",\"pin\":\"123456\"}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            tokens.add(objectMapper.readTree(response.body()).get("accessToken").asText());
+        }
+        return tokens;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static byte[] multipart(String boundary, byte[] wav) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(wav.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"call.wav\"\r\n"
+                + "Content-Type: audio/wav\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(wav);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return body.toByteArray();
+    }
+}
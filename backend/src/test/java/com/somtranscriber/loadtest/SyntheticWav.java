@@ -0,0 +1,33 @@
+package com.somtranscriber.loadtest;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+final class SyntheticWav {
+
+    private static final int SAMPLE_RATE = 16_000;
+
+    private SyntheticWav() {
+    }
+
+    static byte[] generate(int durationSeconds, Random random) {
+        int samples = SAMPLE_RATE * durationSeconds;
+        int dataBytes = samples * 2;
+        ByteBuffer buffer = ByteBuffer.allocate(44 + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(36 + dataBytes).put("WAVE".getBytes());
+        buffer.put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 1)
+                .putInt(SAMPLE_RATE).putInt(SAMPLE_RATE * 2).putShort((short) 2).putShort((short) 16);
+        buffer.put("data".getBytes()).putInt(dataBytes);
+
+        double pitch = 110 + random.nextInt(110);
+        for (int i = 0; i < samples; i++) {
+            double t = (double) i / SAMPLE_RATE;
+            double syllable = Math.max(0, Math.sin(2 * Math.PI * 3 * t));
+            double voice = Math.sin(2 * Math.PI * pitch * t) + 0.4 * Math.sin(2 * Math.PI * pitch * 2 * t);
+            double noise = random.nextGaussian() * 0.02;
+            buffer.putShort((short) Math.round((voice * syllable * 0.5 + noise) * Short.MAX_VALUE * 0.6));
+        }
+        return buffer.array();
+    }
+}
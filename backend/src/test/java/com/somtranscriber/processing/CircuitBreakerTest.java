@@ -0,0 +1,159 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.config.CircuitBreakerProperties;
+import com.somtranscriber.processing.adapter.CircuitBreaker;
+import com.somtranscriber.processing.adapter.ProviderCircuitBreakers;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.DeadlineExceededException;
+import com.somtranscriber.processing.service.ProviderUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void opensOnceTheFailureRateCrossesTheThresholdAndRejectsWithoutCallingTheProvider() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+        breaker.call(() -> "ok");
+        fail(breaker);
+        fail(breaker);
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        fail(breaker);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.call(calls::incrementAndGet))
+                .isInstanceOfSatisfying(ProviderUnavailableException.class, exception ->
+                        assertThat(exception.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1)));
+        assertThat(calls).hasValue(0);
+        assertThat(breaker.unavailableFor()).isPositive();
+        assertThat(meterRegistry.get("calls.provider.circuit.state").tag("adapter", "test").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("calls.provider.circuit.rejected.total", "adapter", "test").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("calls.provider.circuit.transitions.total",
+                "adapter", "test", "from", "closed", "to", "open").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void halfOpenProbesCloseTheCircuitAfterTheOpenDuration() throws Exception {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(80);
+
+        assertThat(breaker.unavailableFor()).isZero();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        breaker.call(() -> "probe");
+        breaker.call(() -> "probe");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.counter("calls.provider.circuit.transitions.total",
+                "adapter", "test", "from", "half_open", "to", "closed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void failedProbeReopensTheCircuit() throws Exception {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        Thread.sleep(80);
+
+        fail(breaker);
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.counter("calls.provider.circuit.transitions.total",
+                "adapter", "test", "from", "half_open", "to", "open").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void probeThatThrowsAnErrorGivesItsSlotBack() throws Exception {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        Thread.sleep(80);
+
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        breaker.call(() -> "probe");
+        breaker.call(() -> "probe");
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenCircuitReportsADelayWhileEveryProbeSlotIsTaken() throws Exception {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        Thread.sleep(80);
+
+        Duration whileProbing = breaker.call(() -> breaker.call(breaker::unavailableFor));
+
+        assertThat(whileProbing).isEqualTo(Duration.ofMillis(50));
+        assertThat(breaker.unavailableFor()).isZero();
+    }
+
+    @Test
+    void deadlinesThatPassBeforeTheRequestIsSentAreNotProviderFailures() throws Exception {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50));
+        Deadline expired = Deadline.after(Duration.ZERO);
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> expired.run(() -> "never sent")))
+                    .isInstanceOfSatisfying(DeadlineExceededException.class, exception ->
+                            assertThat(exception.isRequestSent()).isFalse());
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        Thread.sleep(80);
+        assertThatThrownBy(() -> breaker.call(() -> expired.run(() -> "never sent")))
+                .isInstanceOf(DeadlineExceededException.class);
+        breaker.call(() -> "probe");
+        breaker.call(() -> "probe");
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void clientErrorsDoNotCountAsProviderFailures() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1));
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad", null, null, null);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private CircuitBreaker breaker(Duration openDuration) {
+        return new ProviderCircuitBreakers(
+                new CircuitBreakerProperties(true, 10, 4, 0.5, openDuration, 2),
+                meterRegistry
+        ).breaker("test");
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw new IllegalStateException("provider down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}
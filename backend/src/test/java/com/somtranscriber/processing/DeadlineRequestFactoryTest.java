@@ -0,0 +1,89 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.processing.adapter.DeadlineRequestFactory;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.DeadlineExceededException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineRequestFactoryTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private HttpServer server;
+    private RestClient restClient;
+
+    @BeforeEach
+    void startProvider() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/hanging", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange);
+        });
+        server.createContext("/ok", DeadlineRequestFactoryTest::respond);
+        server.setExecutor(serverExecutor);
+        server.start();
+        restClient = RestClient.builder()
+                .baseUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort())
+                .requestFactory(new DeadlineRequestFactory(HttpClient.newHttpClient()))
+                .build();
+    }
+
+    @AfterEach
+    void stopProvider() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void hangingProviderReadFailsOnceTheDeadlinePasses() {
+        long startedAt = System.nanoTime();
+
+        assertThatThrownBy(() -> Deadline.after(Duration.ofMillis(200)).run(() ->
+                restClient.get().uri("/hanging").retrieve().body(String.class)))
+                .isInstanceOf(DeadlineExceededException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(Deadline.current().isBounded()).isFalse();
+    }
+
+    @Test
+    void requestsWithinTheDeadlineComplete() {
+        String body = Deadline.after(Duration.ofSeconds(5)).run(() ->
+                restClient.get().uri("/ok").retrieve().body(String.class));
+
+        assertThat(body).isEqualTo("ok");
+        assertThat(restClient.get().uri("/ok").retrieve().body(String.class)).isEqualTo("ok");
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+}
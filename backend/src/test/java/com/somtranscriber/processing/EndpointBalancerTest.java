@@ -0,0 +1,218 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.config.HedgingProperties;
+import com.somtranscriber.config.ProviderEndpointsProperties;
+import com.somtranscriber.processing.adapter.EndpointBalancer;
+import com.somtranscriber.processing.adapter.HedgedExecutor;
+import com.somtranscriber.processing.adapter.ProviderEndpoints;
+import com.somtranscriber.processing.adapter.ProviderHedging;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EndpointBalancerTest {
+
+    private static final String FIRST = "http://ollama-1:11434";
+    private static final String SECOND = "http://ollama-2:11434";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fallsBackToTheSingleBaseUrlWhenNoListIsConfigured() {
+        EndpointBalancer balancer = endpoints(List.of()).ollama("formatter");
+
+        String baseUrl = balancer.call(url -> url);
+
+        assertThat(baseUrl).isEqualTo("http://localhost:11434");
+    }
+
+    @Test
+    void prefersTheEndpointWithLowerLatency() {
+        EndpointBalancer balancer = endpoints(List.of(FIRST, SECOND)).ollama("formatter");
+        Map<String, AtomicInteger> picks = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < 30; i++) {
+            balancer.call(baseUrl -> {
+                picks.computeIfAbsent(baseUrl, key -> new AtomicInteger()).incrementAndGet();
+                if (baseUrl.equals(FIRST)) {
+                    sleep(20);
+                }
+                return baseUrl;
+            });
+        }
+
+        assertThat(picks.getOrDefault(FIRST, new AtomicInteger()).get()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.get("calls.provider.endpoint.latency").tag("endpoint", FIRST).timeGauge()
+                .value(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20.0);
+    }
+
+    @Test
+    void routesAroundAnEndpointWithRequestsInFlight() throws Exception {
+        EndpointBalancer balancer = endpoints(List.of(FIRST, SECOND)).ollama("formatter");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> busy = new AtomicReference<>();
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> balancer.call(baseUrl -> {
+            busy.set(baseUrl);
+            started.countDown();
+            await(release);
+            return baseUrl;
+        }));
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        String next = balancer.call(baseUrl -> baseUrl);
+
+        assertThat(next).isNotEqualTo(busy.get());
+        assertThat(meterRegistry.get("calls.provider.endpoint.inflight").tag("endpoint", busy.get()).gauge().value())
+                .isEqualTo(1.0);
+        release.countDown();
+        slow.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void ejectsAnEndpointAfterConsecutiveFailures() {
+        EndpointBalancer balancer = endpoints(List.of(FIRST, SECOND)).ollama("formatter");
+        AtomicInteger firstCalls = new AtomicInteger();
+
+        for (int i = 0; i < 20; i++) {
+            try {
+                balancer.call(baseUrl -> {
+                    if (baseUrl.equals(FIRST)) {
+                        firstCalls.incrementAndGet();
+                        throw new IllegalStateException("connection refused");
+                    }
+                    sleep(5);
+                    return baseUrl;
+                });
+            } catch (IllegalStateException ignored) {
+                // failures on the first endpoint are expected until it is ejected
+            }
+        }
+
+        assertThat(firstCalls).hasValue(2);
+        assertThat(meterRegistry.counter("calls.provider.endpoint.ejections.total",
+                "adapter", "formatter", "endpoint", FIRST).count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("calls.provider.endpoint.ejected").tag("endpoint", FIRST).gauge().value())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.counter("calls.provider.endpoint.requests.total",
+                "adapter", "formatter", "endpoint", SECOND, "outcome", "success").count()).isEqualTo(18.0);
+    }
+
+    @Test
+    void countsReadsThatHangUntilTheDeadlineAsEndpointFailures() {
+        EndpointBalancer balancer = endpoints(List.of(FIRST)).ollama("formatter");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> balancer.call(baseUrl -> Deadline.after(Duration.ofMillis(20)).run(() -> {
+                sleep(Deadline.current().remaining().toMillis() + 1);
+                throw new ResourceAccessException("Read timed out");
+            }))).isInstanceOf(DeadlineExceededException.class);
+        }
+
+        assertThat(meterRegistry.counter("calls.provider.endpoint.requests.total",
+                "adapter", "formatter", "endpoint", FIRST, "outcome", "failure").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("calls.provider.endpoint.ejections.total",
+                "adapter", "formatter", "endpoint", FIRST).count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void cancelledHedgeLoserIsNotCountedAgainstItsEndpoint() throws Exception {
+        EndpointBalancer balancer = endpoints(List.of(FIRST)).ollama("formatter");
+        HedgedExecutor hedged = new ProviderHedging(
+                new HedgingProperties(true, 0.95, Duration.ofMillis(20), 0.05, 10, 1, 64),
+                meterRegistry
+        ).executor("formatter");
+        for (int i = 0; i < 64; i++) {
+            hedged.call(Deadline.none(), () -> "warm");
+        }
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+
+        String result = hedged.call(Deadline.after(Duration.ofSeconds(10)), () -> balancer.call(baseUrl -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException exception) {
+                    primaryCancelled.countDown();
+                    throw new IllegalStateException("cancelled", exception);
+                }
+            }
+            return baseUrl;
+        }));
+
+        assertThat(result).isEqualTo(FIRST);
+        assertThat(primaryCancelled.await(2, TimeUnit.SECONDS)).isTrue();
+        long waitUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (meterRegistry.get("calls.provider.endpoint.inflight").tag("endpoint", FIRST).gauge().value() > 0
+                && System.nanoTime() < waitUntil) {
+            sleep(5);
+        }
+        assertThat(meterRegistry.counter("calls.provider.endpoint.requests.total",
+                "adapter", "formatter", "endpoint", FIRST, "outcome", "failure").count()).isZero();
+    }
+
+    @Test
+    void emptyEndpointListRejectsCalls() {
+        ProviderEndpoints endpoints = new ProviderEndpoints(
+                appProperties(""),
+                new ProviderEndpointsProperties(null, null, null, 0, null),
+                meterRegistry
+        );
+        EndpointBalancer balancer = endpoints.ollama("formatter");
+
+        assertThat(balancer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> balancer.call(baseUrl -> baseUrl)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private ProviderEndpoints endpoints(List<String> ollama) {
+        return new ProviderEndpoints(
+                appProperties("http://localhost:11434"),
+                new ProviderEndpointsProperties(List.of(), ollama, Duration.ofSeconds(10), 2, Duration.ofMinutes(1)),
+                meterRegistry
+        );
+    }
+
+    private static AppProperties appProperties(String ollamaBaseUrl) {
+        return new AppProperties(
+                new AppProperties.Jwt("issuer", 15, 30, "super-secret-super-secret-super-secret", 10_000),
+                new AppProperties.Audio("/tmp/test-audio", 120),
+                new AppProperties.OpenAi("", "gpt-4o-transcribe", "gpt-4o-mini", "https://api.openai.com"),
+                new AppProperties.Ollama(ollamaBaseUrl, "qwen2.5:3b"),
+                new AppProperties.Retry("queue", 3, false, new AppProperties.Retry.Worker(false, 2000, 5)),
+                new AppProperties.Cors(List.of("http://localhost"))
+        );
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
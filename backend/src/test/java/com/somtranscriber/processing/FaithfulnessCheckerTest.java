@@ -0,0 +1,60 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.processing.service.FaithfulnessChecker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FaithfulnessCheckerTest {
+
+    private final FaithfulnessChecker checker = new FaithfulnessChecker(FaithfulnessChecker.DEFAULT_TERMS);
+
+    @Test
+    void flagsHighRiskTermsMissingFromTheSourceRegardlessOfCase() {
+        assertThat(checker.looksUnfaithful("Patient reports pain.", "Patient has pain. See the AGENDA.")).isTrue();
+        assertThat(checker.looksUnfaithful("The Meeting is at noon.", "Summary: meeting at noon.")).isFalse();
+        assertThat(checker.looksUnfaithful("Pain in the knee.", "Knee pain.")).isFalse();
+    }
+
+    @Test
+    void matchesOverlappingAndMultiWordTerms() {
+        assertThat(checker.looksUnfaithful("We had meetings.", "Meetings happened.")).isFalse();
+        assertThat(checker.looksUnfaithful("We had a meeting.", "Meetings happened.")).isTrue();
+        assertThat(checker.looksUnfaithful("Follow the plan.", "Follow the project plan.")).isTrue();
+        assertThat(checker.looksUnfaithful("Follow the Project  Plan.", "Follow the project plan.")).isTrue();
+    }
+
+    @Test
+    void flagsOutputThatGrowsFarBeyondTheSource() {
+        String source = "one two three";
+        String padded = "word ".repeat(18);
+
+        assertThat(checker.looksUnfaithful(source, padded)).isFalse();
+        assertThat(checker.looksUnfaithful(source, padded + "word")).isTrue();
+        assertThat(checker.looksUnfaithful(" ", padded)).isFalse();
+    }
+
+    @Test
+    void supportsTermListsLargerThanOneBitmaskWord() {
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            terms.add("term" + i + "x");
+        }
+        terms.add("Dugsi");
+        FaithfulnessChecker large = new FaithfulnessChecker(terms);
+
+        assertThat(large.looksUnfaithful("term149x noted", "term149x and term3x")).isTrue();
+        assertThat(large.looksUnfaithful("term149x and term3x", "TERM3X, term149x")).isFalse();
+        assertThat(large.looksUnfaithful("school", "the dugsi")).isTrue();
+    }
+
+    @Test
+    void countsWordsAcrossWhitespaceRuns() {
+        assertThat(FaithfulnessChecker.wordCount("")).isZero();
+        assertThat(FaithfulnessChecker.wordCount("  \t\n ")).isZero();
+        assertThat(FaithfulnessChecker.wordCount(" one\ttwo\r\nthree  four ")).isEqualTo(4);
+    }
+}
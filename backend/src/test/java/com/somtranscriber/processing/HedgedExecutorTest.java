@@ -0,0 +1,102 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.config.HedgingProperties;
+import com.somtranscriber.processing.adapter.HedgedExecutor;
+import com.somtranscriber.processing.adapter.ProviderHedging;
+import com.somtranscriber.processing.service.Deadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgedExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void slowRequestsAreHedgedAndTheLoserIsCancelled() throws Exception {
+        HedgedExecutor executor = warmedUp(new HedgingProperties(true, 0.95, Duration.ofMillis(20), 0.05, 10, 1, 64));
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+
+        String result = executor.call(Deadline.after(Duration.ofSeconds(10)), () -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException exception) {
+                    primaryCancelled.countDown();
+                    throw new IllegalStateException("cancelled", exception);
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(primaryCancelled.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(count("calls.provider.hedge.sent.total")).isEqualTo(1.0);
+        assertThat(count("calls.provider.hedge.wins.total")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("calls.provider.hedge.threshold").timeGauge().value(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(20.0);
+    }
+
+    @Test
+    void hedgesStopOnceTheBudgetIsSpent() {
+        HedgedExecutor executor = warmedUp(new HedgingProperties(true, 0.95, Duration.ofMillis(20), 0.01, 1, 1, 64));
+        Supplier<String> slowPrimary = slowFirstAttempt(Duration.ofMillis(150));
+
+        assertThat(executor.call(Deadline.after(Duration.ofSeconds(10)), slowPrimary)).isEqualTo("hedge");
+        assertThat(executor.call(Deadline.after(Duration.ofSeconds(10)), slowFirstAttempt(Duration.ofMillis(150))))
+                .isEqualTo("primary");
+
+        assertThat(count("calls.provider.hedge.sent.total")).isEqualTo(1.0);
+        assertThat(count("calls.provider.hedge.budget.exhausted.total")).isEqualTo(1.0);
+    }
+
+    @Test
+    void disabledHedgingRunsOnTheCallingThread() {
+        HedgedExecutor executor = new ProviderHedging(
+                new HedgingProperties(false, 0, null, 0, 0, 0, 0),
+                meterRegistry
+        ).executor("test");
+        Thread caller = Thread.currentThread();
+
+        Thread ranOn = executor.call(Deadline.none(), Thread::currentThread);
+
+        assertThat(ranOn).isSameAs(caller);
+        assertThat(count("calls.provider.hedge.calls.total")).isZero();
+    }
+
+    private HedgedExecutor warmedUp(HedgingProperties properties) {
+        HedgedExecutor executor = new ProviderHedging(properties, meterRegistry).executor("test");
+        for (int i = 0; i < 64; i++) {
+            executor.call(Deadline.none(), () -> "warm");
+        }
+        return executor;
+    }
+
+    private static Supplier<String> slowFirstAttempt(Duration primaryLatency) {
+        AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            if (attempts.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(primaryLatency.toMillis());
+                } catch (InterruptedException exception) {
+                    throw new IllegalStateException("cancelled", exception);
+                }
+                return "primary";
+            }
+            return "hedge";
+        };
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
@@ -4,26 +4,39 @@ import com.somtranscriber.calls.model.CallRecordEntity;
 import com.somtranscriber.calls.model.CallStatus;
 import com.somtranscriber.calls.model.NoteSource;
 import com.somtranscriber.calls.repo.CallRecordRepository;
+import com.somtranscriber.common.exception.ServiceUnavailableException;
 import com.somtranscriber.config.AppProperties;
+import com.somtranscriber.config.PipelineBudgetProperties;
+import com.somtranscriber.config.RunProperties;
+import com.somtranscriber.config.RunRole;
 import com.somtranscriber.processing.model.JobAttemptEntity;
 import com.somtranscriber.processing.model.JobStage;
 import com.somtranscriber.processing.repo.JobAttemptRepository;
 import com.somtranscriber.processing.service.*;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -55,6 +68,14 @@ class ProcessingServiceTest {
 
     private Path audioPath;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @BeforeEach
+    void registerObservationHandler() {
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+    }
+
     @AfterEach
     void cleanup() throws Exception {
         if (audioPath != null) {
@@ -63,7 +84,7 @@ class ProcessingServiceTest {
     }
 
     @Test
-    void processUploadSuccessPath() throws Exception {
+    void uploadSuccessPath() throws Exception {
         ProcessingService service = createService(3);
         CallRecordEntity call = baseCall();
         MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
@@ -75,12 +96,12 @@ class ProcessingServiceTest {
         when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
         when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
         when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
-        when(transcriptionAdapter.transcribe(any(Path.class), anyString()))
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
                 .thenReturn(new TranscriptionResult("so", "translated text", "gpt-4o-transcribe", 100));
-        when(translationAdapter.translateToEnglish("translated text", "so")).thenReturn("translated text");
-        when(formatterAdapter.format("translated text")).thenReturn("Formatted summary");
+        when(translationAdapter.translateToEnglish(eq("translated text"), eq("so"), any(Deadline.class))).thenReturn("translated text");
+        when(formatterAdapter.format(eq("translated text"), any(Deadline.class))).thenReturn("Formatted summary");
 
-        CallRecordEntity result = service.processUpload(call, file, 45);
+        CallRecordEntity result = upload(service, call, file, 45);
 
         assertThat(result.getStatus()).isEqualTo(CallStatus.READY);
         assertThat(result.getNoteText()).isEqualTo("Formatted summary");
@@ -90,7 +111,51 @@ class ProcessingServiceTest {
     }
 
     @Test
-    void processUploadFallsBackWhenFormatterFails() throws Exception {
+    void uploadRecordsStageTimersByModelAndOutcome() throws Exception {
+        ProcessingService service = createService(3);
+        CallRecordEntity call = baseCall();
+        MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
+
+        audioPath = Files.createTempFile("clip", ".m4a");
+        Files.writeString(audioPath, "audio");
+
+        when(audioStorageService.store(any())).thenReturn("audio-key");
+        when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
+        when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
+                .thenReturn(new TranscriptionResult("so", "caller needs water", "gpt-4o-transcribe", 100));
+        when(translationAdapter.model()).thenReturn("gpt-4o-mini");
+        when(translationAdapter.translateToEnglish(eq("caller needs water"), eq("so"), any(Deadline.class))).thenReturn("Caller needs water.");
+        when(formatterAdapter.model()).thenReturn("qwen2.5:3b");
+        when(formatterAdapter.format(eq("Caller needs water."), any(Deadline.class))).thenReturn("Caller needs water before the meeting.");
+
+        upload(service, call, file, 45);
+
+        assertThat(stageCount("transcription", "gpt-4o-transcribe", "success")).isEqualTo(1);
+        assertThat(stageCount("translation", "gpt-4o-mini", "success")).isEqualTo(1);
+        assertThat(stageCount("format", "qwen2.5:3b", "unfaithful")).isEqualTo(1);
+        assertThat(stageCount("persist", "database", "success")).isEqualTo(1);
+        assertThat(meterRegistry.get("calls.upload.to.ready").tag("status", "READY_WITH_WARNING").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("calls.stage.inflight").gauges())
+                .hasSize(4)
+                .allSatisfy(gauge -> assertThat(gauge.value()).isZero());
+    }
+
+    @Test
+    void processRetryJobRecordsQueueWaitSinceEnqueue() {
+        ProcessingService service = createService(3);
+        Instant enqueuedAt = Instant.now().minusSeconds(12);
+
+        service.processRetryJob(new RetryJob(UUID.randomUUID(), JobStage.FORMATTER, 2, enqueuedAt, enqueuedAt));
+
+        assertThat(meterRegistry.get("calls.queue.wait").tags("stage", "formatter", "retry", "true").timer()
+                .totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(12);
+    }
+
+    @Test
+    void uploadFallsBackWhenFormatterFails() throws Exception {
         ProcessingService service = createService(3);
         CallRecordEntity call = baseCall();
         MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
@@ -102,15 +167,15 @@ class ProcessingServiceTest {
         when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
         when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
         when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
-        when(transcriptionAdapter.transcribe(any(Path.class), anyString()))
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
                 .thenReturn(new TranscriptionResult("so", "translated text", "gpt-4o-transcribe", 50));
-        when(translationAdapter.translateToEnglish("translated text", "so")).thenReturn("translated text");
-        when(formatterAdapter.format(anyString())).thenThrow(new IllegalStateException("formatter down"));
+        when(translationAdapter.translateToEnglish(eq("translated text"), eq("so"), any(Deadline.class))).thenReturn("translated text");
+        when(formatterAdapter.format(anyString(), any(Deadline.class))).thenThrow(new IllegalStateException("formatter down"));
         when(jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(any(), eq(JobStage.FORMATTER)))
                 .thenReturn(Optional.empty());
         when(jobAttemptRepository.save(any(JobAttemptEntity.class))).thenAnswer(inv -> inv.getArgument(0));
 
-        CallRecordEntity result = service.processUpload(call, file, 40);
+        CallRecordEntity result = upload(service, call, file, 40);
 
         assertThat(result.getStatus()).isEqualTo(CallStatus.READY_WITH_WARNING);
         assertThat(result.getNoteText()).isEqualTo("translated text");
@@ -120,7 +185,58 @@ class ProcessingServiceTest {
     }
 
     @Test
-    void processUploadUsesRawTranslationWhenFormatterAddsUnsupportedDetails() throws Exception {
+    void uploadReturnsRawTranslationAndPostponesRetryWhileFormatterCircuitIsOpen() throws Exception {
+        ProcessingService service = createService(3);
+        CallRecordEntity call = baseCall();
+        MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
+
+        audioPath = Files.createTempFile("clip", ".m4a");
+        Files.writeString(audioPath, "audio");
+
+        when(audioStorageService.store(any())).thenReturn("audio-key");
+        when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
+        when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
+                .thenReturn(new TranscriptionResult("so", "translated text", "gpt-4o-transcribe", 50));
+        when(translationAdapter.translateToEnglish(eq("translated text"), eq("so"), any(Deadline.class))).thenReturn("translated text");
+        when(formatterAdapter.format(anyString(), any(Deadline.class)))
+                .thenThrow(new ProviderUnavailableException("Circuit for formatter is open", Duration.ofSeconds(45)));
+        when(jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(any(), eq(JobStage.FORMATTER)))
+                .thenReturn(Optional.empty());
+
+        Instant before = Instant.now();
+        CallRecordEntity result = upload(service, call, file, 40);
+
+        assertThat(result.getStatus()).isEqualTo(CallStatus.READY_WITH_WARNING);
+        assertThat(result.getNoteSource()).isEqualTo(NoteSource.RAW_TRANSLATION);
+        ArgumentCaptor<RetryJob> job = ArgumentCaptor.forClass(RetryJob.class);
+        verify(retryQueueService).enqueue(job.capture());
+        assertThat(job.getValue().attempt()).isEqualTo(1);
+        assertThat(job.getValue().availableAt()).isAfterOrEqualTo(before.plusSeconds(45));
+        verify(jobAttemptRepository, never()).save(any(JobAttemptEntity.class));
+    }
+
+    @Test
+    void processRetryJobIsPostponedWhileTheProviderCircuitIsOpen() {
+        ProcessingService service = createService(3);
+        UUID callId = UUID.randomUUID();
+        when(transcriptionAdapter.unavailableFor()).thenReturn(Duration.ofSeconds(5));
+        when(translationAdapter.unavailableFor()).thenReturn(Duration.ofMillis(20_500));
+
+        Instant before = Instant.now();
+        service.processRetryJob(new RetryJob(callId, JobStage.TRANSCRIPTION, 2, before));
+
+        ArgumentCaptor<RetryJob> job = ArgumentCaptor.forClass(RetryJob.class);
+        verify(retryQueueService).enqueue(job.capture());
+        assertThat(job.getValue().attempt()).isEqualTo(2);
+        assertThat(job.getValue().availableAt()).isAfterOrEqualTo(before.plusSeconds(21));
+        assertThat(meterRegistry.counter("calls.retry.postponed.total").count()).isEqualTo(1.0);
+        verifyNoInteractions(callRecordRepository);
+    }
+
+    @Test
+    void uploadUsesRawTranslationWhenFormatterAddsUnsupportedDetails() throws Exception {
         ProcessingService service = createService(3);
         CallRecordEntity call = baseCall();
         MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
@@ -133,13 +249,13 @@ class ProcessingServiceTest {
         when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
         when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
         when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
-        when(transcriptionAdapter.transcribe(any(Path.class), anyString()))
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
                 .thenReturn(new TranscriptionResult("so", transcript, "gpt-4o-transcribe", 40));
-        when(translationAdapter.translateToEnglish(transcript, "so")).thenReturn(transcript);
-        when(formatterAdapter.format(transcript))
+        when(translationAdapter.translateToEnglish(eq(transcript), eq("so"), any(Deadline.class))).thenReturn(transcript);
+        when(formatterAdapter.format(eq(transcript), any(Deadline.class)))
                 .thenReturn("Met with the team and prepared the weekly report for stakeholders.");
 
-        CallRecordEntity result = service.processUpload(call, file, 30);
+        CallRecordEntity result = upload(service, call, file, 30);
 
         assertThat(result.getStatus()).isEqualTo(CallStatus.READY_WITH_WARNING);
         assertThat(result.getNoteText()).isEqualTo(transcript);
@@ -149,7 +265,7 @@ class ProcessingServiceTest {
     }
 
     @Test
-    void processUploadSchedulesRetryOnTranscriptionFailure() throws Exception {
+    void uploadSchedulesRetryOnTranscriptionFailure() throws Exception {
         ProcessingService service = createService(3);
         CallRecordEntity call = baseCall();
         MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
@@ -161,12 +277,12 @@ class ProcessingServiceTest {
         when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
         when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
         when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
-        when(transcriptionAdapter.transcribe(any(Path.class), anyString())).thenThrow(new IllegalStateException("openai timeout"));
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class))).thenThrow(new IllegalStateException("openai timeout"));
         when(jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(any(), eq(JobStage.TRANSCRIPTION)))
                 .thenReturn(Optional.empty());
         when(jobAttemptRepository.save(any(JobAttemptEntity.class))).thenAnswer(inv -> inv.getArgument(0));
 
-        CallRecordEntity result = service.processUpload(call, file, 50);
+        CallRecordEntity result = upload(service, call, file, 50);
 
         assertThat(result.getStatus()).isEqualTo(CallStatus.FAILED);
         assertThat(result.getWarning()).contains("retry");
@@ -176,7 +292,7 @@ class ProcessingServiceTest {
     }
 
     @Test
-    void processUploadSchedulesRetryOnTranslationFailure() throws Exception {
+    void rateLimitedTranscriptionIsPostponedWithoutUsingAnAttempt() throws Exception {
         ProcessingService service = createService(3);
         CallRecordEntity call = baseCall();
         MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
@@ -184,19 +300,147 @@ class ProcessingServiceTest {
         audioPath = Files.createTempFile("clip", ".m4a");
         Files.writeString(audioPath, "audio");
 
+        JobAttemptEntity previous = new JobAttemptEntity();
+        previous.setAttemptNo(2);
         when(audioStorageService.store(any())).thenReturn("audio-key");
         when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
         when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
         when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
-        when(transcriptionAdapter.transcribe(any(Path.class), anyString()))
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
+                .thenThrow(new ProviderRateLimitedException("Provider returned 429 for transcription", Duration.ofSeconds(40)));
+        when(jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(call.getId(), JobStage.TRANSCRIPTION))
+                .thenReturn(Optional.of(previous));
+
+        Instant before = Instant.now();
+        CallRecordEntity result = upload(service, call, file, 50);
+
+        assertThat(result.getWarning()).contains("rate limit");
+        ArgumentCaptor<RetryJob> job = ArgumentCaptor.forClass(RetryJob.class);
+        verify(retryQueueService).enqueue(job.capture());
+        assertThat(job.getValue().attempt()).isEqualTo(3);
+        assertThat(job.getValue().availableAt()).isAfterOrEqualTo(before.plusSeconds(40));
+        verify(jobAttemptRepository, never()).save(any(JobAttemptEntity.class));
+        verify(audioStorageService, never()).delete(anyString());
+    }
+
+    @Test
+    void transcriptionRejectedByAnOpenCircuitIsPostponedWithoutUsingAnAttempt() throws Exception {
+        ProcessingService service = createService(3);
+        CallRecordEntity call = baseCall();
+        MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
+
+        audioPath = Files.createTempFile("clip", ".m4a");
+        Files.writeString(audioPath, "audio");
+
+        when(audioStorageService.store(any())).thenReturn("audio-key");
+        when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
+        when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
+                .thenThrow(new ProviderUnavailableException("Circuit for transcription is half_open", Duration.ofSeconds(30)));
+
+        Instant before = Instant.now();
+        CallRecordEntity result = upload(service, call, file, 50);
+
+        assertThat(result.getWarning()).contains("provider unavailable");
+        ArgumentCaptor<RetryJob> job = ArgumentCaptor.forClass(RetryJob.class);
+        verify(retryQueueService).enqueue(job.capture());
+        assertThat(job.getValue().attempt()).isEqualTo(1);
+        assertThat(job.getValue().availableAt()).isAfterOrEqualTo(before.plusSeconds(30));
+        verify(jobAttemptRepository, never()).save(any(JobAttemptEntity.class));
+    }
+
+    @Test
+    void uploadSchedulesRetryWhenTranscriptionOutlivesItsStageBudget() throws Exception {
+        ProcessingService service = createService(new PipelineBudgetProperties(
+                Duration.ofSeconds(30), Duration.ofMillis(50), null, null, null));
+        CallRecordEntity call = baseCall();
+        MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
+
+        audioPath = Files.createTempFile("clip", ".m4a");
+        Files.writeString(audioPath, "audio");
+
+        when(audioStorageService.store(any())).thenReturn("audio-key");
+        when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
+        when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class))).thenAnswer(inv ->
+                inv.<Deadline>getArgument(2).run(() -> {
+                    try {
+                        Thread.sleep(Deadline.current().remaining().toMillis() + 1);
+                    } catch (InterruptedException exception) {
+                        throw new IllegalStateException("interrupted", exception);
+                    }
+                    throw new ResourceAccessException("Read timed out");
+                }));
+        when(jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(any(), eq(JobStage.TRANSCRIPTION)))
+                .thenReturn(Optional.empty());
+        when(jobAttemptRepository.save(any(JobAttemptEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        long startedAt = System.nanoTime();
+        CallRecordEntity result = upload(service, call, file, 50);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(result.getStatus()).isEqualTo(CallStatus.FAILED);
+        assertThat(result.getWarning()).contains("retry");
+        assertThat(stageCount("transcription", "gpt-4o-transcribe", "deadline_exceeded")).isEqualTo(1);
+        verify(retryQueueService).enqueue(any(RetryJob.class));
+        verifyNoInteractions(translationAdapter);
+    }
+
+    @Test
+    void uploadSkipsFormattingWhenTheBudgetIsNearlySpent() throws Exception {
+        ProcessingService service = createService(new PipelineBudgetProperties(
+                Duration.ofSeconds(5), null, null, null, Duration.ofSeconds(10)));
+        CallRecordEntity call = baseCall();
+        MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
+
+        audioPath = Files.createTempFile("clip", ".m4a");
+        Files.writeString(audioPath, "audio");
+
+        when(audioStorageService.store(any())).thenReturn("audio-key");
+        when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
+        when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
+                .thenReturn(new TranscriptionResult("so", "qoraal", "gpt-4o-transcribe", 100));
+        when(translationAdapter.translateToEnglish(eq("qoraal"), eq("so"), any(Deadline.class))).thenReturn("Caller needs water.");
+        when(formatterAdapter.model()).thenReturn("qwen2.5:3b");
+
+        CallRecordEntity result = upload(service, call, file, 45);
+
+        assertThat(result.getStatus()).isEqualTo(CallStatus.READY_WITH_WARNING);
+        assertThat(result.getNoteText()).isEqualTo("Caller needs water.");
+        assertThat(result.getNoteSource()).isEqualTo(NoteSource.RAW_TRANSLATION);
+        assertThat(result.getWarning()).contains("deadline");
+        assertThat(stageCount("format", "qwen2.5:3b", "skipped")).isEqualTo(1);
+        verify(formatterAdapter, never()).format(anyString(), any(Deadline.class));
+        verify(audioStorageService).delete("audio-key");
+    }
+
+    @Test
+    void uploadSchedulesRetryOnTranslationFailure() throws Exception {
+        ProcessingService service = createService(3);
+        CallRecordEntity call = baseCall();
+        MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
+
+        audioPath = Files.createTempFile("clip", ".m4a");
+        Files.writeString(audioPath, "audio");
+
+        when(audioStorageService.store(any())).thenReturn("audio-key");
+        when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
+        when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class)))
                 .thenReturn(new TranscriptionResult("so", "qoraal", "gpt-4o-transcribe", 70));
-        when(translationAdapter.translateToEnglish("qoraal", "so"))
+        when(translationAdapter.translateToEnglish(eq("qoraal"), eq("so"), any(Deadline.class)))
                 .thenThrow(new IllegalStateException("translation unavailable"));
         when(jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(any(), eq(JobStage.TRANSCRIPTION)))
                 .thenReturn(Optional.empty());
         when(jobAttemptRepository.save(any(JobAttemptEntity.class))).thenAnswer(inv -> inv.getArgument(0));
 
-        CallRecordEntity result = service.processUpload(call, file, 50);
+        CallRecordEntity result = upload(service, call, file, 50);
 
         assertThat(result.getStatus()).isEqualTo(CallStatus.FAILED);
         assertThat(result.getWarning()).contains("retry");
@@ -214,7 +458,7 @@ class ProcessingServiceTest {
 
         when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
         when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(formatterAdapter.format("raw transcript")).thenReturn("cleaned summary");
+        when(formatterAdapter.format(eq("raw transcript"), any(Deadline.class))).thenReturn("cleaned summary");
 
         service.processRetryJob(new RetryJob(call.getId(), JobStage.FORMATTER, 2, Instant.now()));
 
@@ -224,7 +468,7 @@ class ProcessingServiceTest {
     }
 
     @Test
-    void processUploadDeletesAudioAfterTerminalTranscriptionFailure() throws Exception {
+    void uploadDeletesAudioAfterTerminalTranscriptionFailure() throws Exception {
         ProcessingService service = createService(1);
         CallRecordEntity call = baseCall();
         MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
@@ -236,12 +480,12 @@ class ProcessingServiceTest {
         when(audioStorageService.resolve("audio-key")).thenReturn(audioPath);
         when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
         when(callRecordRepository.findById(call.getId())).thenReturn(Optional.of(call));
-        when(transcriptionAdapter.transcribe(any(Path.class), anyString())).thenThrow(new IllegalStateException("down"));
+        when(transcriptionAdapter.transcribe(any(Path.class), anyString(), any(Deadline.class))).thenThrow(new IllegalStateException("down"));
         when(jobAttemptRepository.findTopByCallIdAndStageOrderByAttemptNoDesc(any(), eq(JobStage.TRANSCRIPTION)))
                 .thenReturn(Optional.empty());
         when(jobAttemptRepository.save(any(JobAttemptEntity.class))).thenAnswer(inv -> inv.getArgument(0));
 
-        CallRecordEntity result = service.processUpload(call, file, 55);
+        CallRecordEntity result = upload(service, call, file, 55);
 
         assertThat(result.getStatus()).isEqualTo(CallStatus.FAILED);
         assertThat(result.getWarning()).contains("re-upload");
@@ -250,20 +494,20 @@ class ProcessingServiceTest {
     }
 
     @Test
-    void processUploadRejectsInvalidDurationAndMimeType() {
+    void uploadRejectsInvalidDurationAndMimeType() {
         ProcessingService service = createService(3);
         CallRecordEntity call = baseCall();
         MockMultipartFile invalidMime = new MockMultipartFile("file", "clip.txt", "text/plain", "abc".getBytes());
 
         try {
-            service.processUpload(call, invalidMime, 10);
+            upload(service, call, invalidMime, 10);
         } catch (Exception ignored) {
             // expected
         }
 
         MockMultipartFile audio = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
         try {
-            service.processUpload(call, audio, 121);
+            upload(service, call, audio, 121);
         } catch (Exception ignored) {
             // expected
         }
@@ -272,7 +516,7 @@ class ProcessingServiceTest {
     }
 
     @Test
-    void processUploadQueuesAsyncJobWhenEnabled() {
+    void uploadQueuesAsyncJobWhenEnabled() {
         ProcessingService service = createService(3, true);
         CallRecordEntity call = baseCall();
         MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
@@ -280,7 +524,7 @@ class ProcessingServiceTest {
         when(audioStorageService.store(any())).thenReturn("audio-key");
         when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
 
-        CallRecordEntity result = service.processUpload(call, file, 20);
+        CallRecordEntity result = upload(service, call, file, 20);
 
         assertThat(result.getStatus()).isEqualTo(CallStatus.UPLOADED);
         assertThat(result.getAudioObjectKey()).isEqualTo("audio-key");
@@ -288,17 +532,61 @@ class ProcessingServiceTest {
         verify(callRecordRepository, never()).findById(any());
     }
 
+    @Test
+    void apiRoleOnlyEnqueuesEvenWhenSyncProcessingIsConfigured() {
+        ProcessingService service = createService(3, false, RunRole.API);
+        CallRecordEntity call = baseCall();
+        MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
+
+        when(audioStorageService.store(any())).thenReturn("audio-key");
+        when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        CallRecordEntity result = upload(service, call, file, 20);
+
+        assertThat(result.getStatus()).isEqualTo(CallStatus.UPLOADED);
+        verify(retryQueueService).enqueue(any(RetryJob.class));
+        verifyNoInteractions(transcriptionAdapter);
+    }
+
+    @Test
+    void apiRoleRejectsUploadWhenQueueIsUnavailable() {
+        ProcessingService service = createService(3, true, RunRole.API);
+        CallRecordEntity call = baseCall();
+        MockMultipartFile file = new MockMultipartFile("file", "clip.m4a", "audio/mpeg", "abc".getBytes());
+
+        when(audioStorageService.store(any())).thenReturn("audio-key");
+        when(callRecordRepository.save(any(CallRecordEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+        doThrow(new IllegalStateException("redis down")).when(retryQueueService).enqueue(any(RetryJob.class));
+
+        assertThatThrownBy(() -> upload(service, call, file, 20))
+                .isInstanceOf(ServiceUnavailableException.class);
+        verify(audioStorageService).delete("audio-key");
+        verifyNoInteractions(transcriptionAdapter);
+    }
+
     private ProcessingService createService(int maxAttempts) {
         return createService(maxAttempts, false);
     }
 
     private ProcessingService createService(int maxAttempts, boolean asyncOnUpload) {
+        return createService(maxAttempts, asyncOnUpload, RunRole.BOTH);
+    }
+
+    private ProcessingService createService(int maxAttempts, boolean asyncOnUpload, RunRole role) {
+        return createService(maxAttempts, asyncOnUpload, role, new PipelineBudgetProperties(null, null, null, null, null));
+    }
+
+    private ProcessingService createService(PipelineBudgetProperties budget) {
+        return createService(3, false, RunRole.BOTH, budget);
+    }
+
+    private ProcessingService createService(int maxAttempts, boolean asyncOnUpload, RunRole role, PipelineBudgetProperties budget) {
         AppProperties properties = new AppProperties(
-                new AppProperties.Jwt("issuer", 15, 30, "secret-secret-secret-secret-secret-secret"),
+                new AppProperties.Jwt("issuer", 15, 30, "secret-secret-secret-secret-secret-secret", 10_000),
                 new AppProperties.Audio("/tmp/audio", 120),
                 new AppProperties.OpenAi("", "gpt-4o-transcribe", "gpt-4o-mini", "https://api.openai.com"),
                 new AppProperties.Ollama("", "qwen2.5:3b"),
-                new AppProperties.Retry("queue", maxAttempts, asyncOnUpload),
+                new AppProperties.Retry("queue", maxAttempts, asyncOnUpload, new AppProperties.Retry.Worker(false, 2000, 5)),
                 new AppProperties.Cors(java.util.List.of("http://localhost"))
         );
 
@@ -310,11 +598,33 @@ class ProcessingServiceTest {
                 formatterAdapter,
                 audioStorageService,
                 retryQueueService,
+                new FaithfulnessChecker(FaithfulnessChecker.DEFAULT_TERMS),
+                new PipelineObservations(observationRegistry, meterRegistry),
                 properties,
-                new SimpleMeterRegistry()
+                new RunProperties(role),
+                budget,
+                meterRegistry
         );
     }
 
+    private long stageCount(String stage, String model, String outcome) {
+        return meterRegistry.get(PipelineObservations.STAGE_OBSERVATION)
+                .tags("stage", stage, "model", model, "outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private static CallRecordEntity upload(ProcessingService service,
+                                           CallRecordEntity call,
+                                           MultipartFile file,
+                                           int durationSeconds) {
+        ProcessingService.AcceptedUpload accepted = service.acceptUpload(call, file, durationSeconds);
+        if (!accepted.processInline()) {
+            return accepted.call();
+        }
+        return service.processTranscriptionAndFormatting(accepted.call().getId(), true, accepted.deadline());
+    }
+
     private CallRecordEntity baseCall() {
         CallRecordEntity call = new CallRecordEntity();
         call.setId(UUID.randomUUID());
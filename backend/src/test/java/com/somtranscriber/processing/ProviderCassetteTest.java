@@ -0,0 +1,103 @@
+package com.somtranscriber.processing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.somtranscriber.processing.cassette.CassetteEntry;
+import com.somtranscriber.processing.cassette.CassetteRecorder;
+import com.somtranscriber.processing.cassette.CassetteReplayer;
+import com.somtranscriber.processing.cassette.ProviderCassette;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ProviderCassetteTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void replaysRecordedResponsesMatchedByCanonicalRequestBody() throws Exception {
+        Path file = directory.resolve("providers.jsonl.gz");
+        RestClient.Builder recordingBuilder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(recordingBuilder).build();
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andRespond(withSuccess("{\"answer\":\"first\"}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).body("{\"error\":\"slow down\"}"));
+
+        ProviderCassette recorded = ProviderCassette.create(file, objectMapper);
+        RestClient recorder = recordingBuilder.requestInterceptor(new CassetteRecorder(recorded)).build();
+        assertThat(post(recorder, "https://api.openai.com", "{\"model\":\"a\",\"prompt\":\"one\"}")).isEqualTo("{\"answer\":\"first\"}");
+        assertThatThrownBy(() -> post(recorder, "https://api.openai.com", "{\"model\":\"a\",\"prompt\":\"two\"}"))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        server.verify();
+        recorded.save();
+
+        ProviderCassette loaded = ProviderCassette.load(file, objectMapper);
+        RestClient replay = RestClient.builder()
+                .requestInterceptor(new CassetteReplayer(loaded, 0.0, meterRegistry))
+                .build();
+
+        assertThat(loaded.size()).isEqualTo(2);
+        assertThatThrownBy(() -> post(replay, "http://replay.local", "{\"prompt\":\"two\",\"model\":\"a\"}"))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        assertThat(post(replay, "http://replay.local", "{\"prompt\":\"one\",\"model\":\"a\"}")).isEqualTo("{\"answer\":\"first\"}");
+    }
+
+    @Test
+    void scalesRecordedLatencyAndFallsBackToRouteOrder() {
+        ProviderCassette cassette = ProviderCassette.create(directory.resolve("unused.jsonl.gz"), objectMapper);
+        cassette.add(new CassetteEntry("POST /api/generate", null, 200, "application/json", "{\"response\":\"a\"}", 400));
+        cassette.add(new CassetteEntry("POST /api/generate", null, 200, "application/json", "{\"response\":\"b\"}", 400));
+        RestClient replay = RestClient.builder()
+                .requestInterceptor(new CassetteReplayer(cassette, 0.25, meterRegistry))
+                .build();
+
+        long start = System.nanoTime();
+        String first = replay.post().uri("http://ollama/api/generate").body("raw prompt").retrieve().body(String.class);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        String second = replay.post().uri("http://ollama/api/generate").body("raw prompt").retrieve().body(String.class);
+
+        assertThat(first).isEqualTo("{\"response\":\"a\"}");
+        assertThat(second).isEqualTo("{\"response\":\"b\"}");
+        assertThat(elapsedMs).isBetween(90L, 390L);
+    }
+
+    @Test
+    void failsLikeAnUnreachableProviderWhenNothingWasRecorded() {
+        ProviderCassette cassette = ProviderCassette.create(directory.resolve("empty.jsonl.gz"), objectMapper);
+        RestClient replay = RestClient.builder()
+                .requestInterceptor(new CassetteReplayer(cassette, 1.0, meterRegistry))
+                .build();
+
+        assertThatThrownBy(() -> post(replay, "http://replay.local", "{}"))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("POST /v1/chat/completions");
+        assertThat(meterRegistry.counter("providers.cassette.replay.total", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    private String post(RestClient client, String baseUrl, String json) {
+        return client.post()
+                .uri(baseUrl + "/v1/chat/completions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json)
+                .retrieve()
+                .body(String.class);
+    }
+}
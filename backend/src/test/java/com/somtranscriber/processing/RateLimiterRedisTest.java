@@ -0,0 +1,111 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.config.ProviderRateLimitProperties;
+import com.somtranscriber.processing.adapter.ProviderRateLimiters;
+import com.somtranscriber.processing.adapter.RateLimiter;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.ProviderRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimiterRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final String keyPrefix = "rate-it-" + UUID.randomUUID();
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void acquiresTheRequestBudgetAndWaitsForItToRefill() {
+        ProviderRateLimitProperties.Limit limit = new ProviderRateLimitProperties.Limit(120, 0);
+        RateLimiter noWait = limiter(Duration.ZERO, limit);
+        for (int i = 0; i < 120; i++) {
+            noWait.acquire(0, Deadline.none());
+        }
+
+        assertThatThrownBy(() -> noWait.acquire(0, Deadline.none()))
+                .isInstanceOfSatisfying(ProviderRateLimitedException.class, exception ->
+                        assertThat(exception.getRetryAfter()).isPositive().isLessThanOrEqualTo(Duration.ofMillis(500)));
+
+        limiter(Duration.ofSeconds(2), limit).acquire(0, Deadline.after(Duration.ofSeconds(5)));
+        assertThat(meterRegistry.get("calls.provider.ratelimit.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tokenBudgetHoldsBackLargeRequests() {
+        RateLimiter limiter = limiter(Duration.ZERO, new ProviderRateLimitProperties.Limit(1_000, 600));
+
+        limiter.acquire(500, Deadline.none());
+
+        assertThatThrownBy(() -> limiter.acquire(500, Deadline.none()))
+                .isInstanceOfSatisfying(ProviderRateLimitedException.class, exception ->
+                        assertThat(exception.getRetryAfter())
+                                .isGreaterThan(Duration.ofSeconds(30))
+                                .isLessThanOrEqualTo(Duration.ofSeconds(40)));
+    }
+
+    @Test
+    void tooManyRequestsPausesEveryLimiterSharingTheBucket() {
+        ProviderRateLimitProperties.Limit limit = new ProviderRateLimitProperties.Limit(1_000, 0);
+        RateLimiter throttled = limiter(Duration.ZERO, limit);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+
+        assertThatThrownBy(() -> throttled.exchange(() -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "slow down", headers, null, null);
+        })).isInstanceOf(ProviderRateLimitedException.class);
+
+        RateLimiter otherPod = new ProviderRateLimiters(redisTemplate, properties(Duration.ZERO, limit), new SimpleMeterRegistry())
+                .limiter("translation");
+        assertThat(otherPod.pausedFor()).isGreaterThan(Duration.ofSeconds(6)).isLessThanOrEqualTo(Duration.ofSeconds(7));
+        assertThatThrownBy(() -> otherPod.acquire(0, Deadline.none()))
+                .isInstanceOfSatisfying(ProviderRateLimitedException.class, exception ->
+                        assertThat(exception.getRetryAfter()).isGreaterThan(Duration.ofSeconds(6)));
+    }
+
+    private RateLimiter limiter(Duration maxWait, ProviderRateLimitProperties.Limit limit) {
+        return new ProviderRateLimiters(redisTemplate, properties(maxWait, limit), meterRegistry).limiter("translation");
+    }
+
+    private ProviderRateLimitProperties properties(Duration maxWait, ProviderRateLimitProperties.Limit limit) {
+        return new ProviderRateLimitProperties(true, keyPrefix, maxWait, null, null, limit);
+    }
+}
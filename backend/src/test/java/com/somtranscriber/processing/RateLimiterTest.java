@@ -0,0 +1,145 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.config.ProviderRateLimitProperties;
+import com.somtranscriber.processing.adapter.ProviderRateLimiters;
+import com.somtranscriber.processing.adapter.RateLimiter;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.ProviderRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    private static final List<String> BUCKET_KEYS =
+            List.of("rate-test:translation", "rate-test:translation:paused");
+    private static final List<String> PAUSE_KEY = List.of("rate-test:translation:paused");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void waitsForAPermitInsteadOfFailing() {
+        RateLimiter limiter = limiter(Duration.ofSeconds(5));
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List>>any(), eq(BUCKET_KEYS), any(Object[].class)))
+                .thenReturn(List.of(40L, 0L))
+                .thenReturn(List.of(0L, 15_000L));
+
+        limiter.acquire(120, Deadline.after(Duration.ofSeconds(10)));
+
+        assertThat(meterRegistry.get("calls.provider.ratelimit.wait").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isGreaterThanOrEqualTo(40.0);
+        assertThat(meterRegistry.get("calls.provider.ratelimit.saturation").gauge().value()).isEqualTo(0.25);
+    }
+
+    @Test
+    void givesUpWhenTheWaitExceedsTheLimit() {
+        RateLimiter limiter = limiter(Duration.ofSeconds(5));
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List>>any(), eq(BUCKET_KEYS), any(Object[].class)))
+                .thenReturn(List.of(30_000L, 0L));
+
+        assertThatThrownBy(() -> limiter.acquire(10, Deadline.none()))
+                .isInstanceOfSatisfying(ProviderRateLimitedException.class, exception ->
+                        assertThat(exception.getRetryAfter()).isEqualTo(Duration.ofSeconds(30)));
+        assertThat(meterRegistry.counter("calls.provider.ratelimit.rejected.total", "adapter", "translation").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void tooManyRequestsPausesDispatchForRetryAfter() {
+        RateLimiter limiter = limiter(Duration.ofSeconds(5));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+
+        assertThatThrownBy(() -> limiter.exchange(() -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "slow down", headers, null, null);
+        })).isInstanceOfSatisfying(ProviderRateLimitedException.class, exception ->
+                assertThat(exception.getRetryAfter()).isEqualTo(Duration.ofSeconds(7)));
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(PAUSE_KEY), eq("7000"));
+        assertThat(meterRegistry.counter("calls.provider.ratelimit.throttled.total", "adapter", "translation").count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("calls.provider.ratelimit.saturation").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void exhaustedRateLimitHeadersPauseUntilReset() {
+        RateLimiter limiter = limiter(Duration.ofSeconds(5));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-ratelimit-remaining-requests", "0");
+        headers.set("x-ratelimit-reset-requests", "1m30s");
+        headers.set("x-ratelimit-remaining-tokens", "1200");
+        headers.set("x-ratelimit-reset-tokens", "250ms");
+
+        String body = limiter.exchange(() -> ResponseEntity.ok().headers(headers).body("translated"));
+
+        assertThat(body).isEqualTo("translated");
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(PAUSE_KEY), eq("90000"));
+    }
+
+    @Test
+    void reportsTheClusterWidePause() {
+        RateLimiter limiter = limiter(Duration.ofSeconds(5));
+        when(redisTemplate.getExpire("rate-test:translation:paused", TimeUnit.MILLISECONDS)).thenReturn(4_500L);
+
+        assertThat(limiter.pausedFor()).isEqualTo(Duration.ofMillis(4_500));
+    }
+
+    @Test
+    void letsRequestsThroughWhenRedisIsDown() {
+        RateLimiter limiter = limiter(Duration.ofSeconds(5));
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List>>any(), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        limiter.acquire(10, Deadline.none());
+
+        assertThat(meterRegistry.get("calls.provider.ratelimit.wait").timer().count()).isZero();
+    }
+
+    @Test
+    void enabledLimiterRequiresAnExplicitRequestLimit() {
+        ProviderRateLimiters limiters = new ProviderRateLimiters(
+                redisTemplate,
+                new ProviderRateLimitProperties(true, "rate-test", null, null, null, null),
+                meterRegistry
+        );
+
+        assertThatThrownBy(() -> limiters.limiter("transcription"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("transcription.requests-per-minute");
+    }
+
+    private RateLimiter limiter(Duration maxWait) {
+        return new ProviderRateLimiters(
+                redisTemplate,
+                new ProviderRateLimitProperties(true, "rate-test", maxWait, null, null,
+                        new ProviderRateLimitProperties.Limit(20, 10_000)),
+                meterRegistry
+        ).limiter("translation");
+    }
+}
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.somtranscriber.config.AppProperties;
 import com.somtranscriber.processing.model.JobStage;
 import com.somtranscriber.processing.service.RetryJob;
+import com.somtranscriber.processing.service.RetryQueueMetrics;
 import com.somtranscriber.processing.service.RetryQueueService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +17,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 
 import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -22,6 +25,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -45,11 +49,11 @@ class RetryQueueServiceTest {
         objectMapper = new ObjectMapper().findAndRegisterModules();
 
         AppProperties properties = new AppProperties(
-                new AppProperties.Jwt("issuer", 15, 30, "secret-secret-secret-secret-secret-secret"),
+                new AppProperties.Jwt("issuer", 15, 30, "secret-secret-secret-secret-secret-secret", 10_000),
                 new AppProperties.Audio("/tmp/audio", 120),
                 new AppProperties.OpenAi("", "gpt-4o-transcribe", "gpt-4o-mini", "https://api.openai.com"),
                 new AppProperties.Ollama("", "qwen2.5:3b"),
-                new AppProperties.Retry("retry-test-queue", 3, true),
+                new AppProperties.Retry("retry-test-queue", 3, true, new AppProperties.Retry.Worker(false, 2000, 5)),
                 new AppProperties.Cors(List.of("http://localhost"))
         );
 
@@ -102,4 +106,22 @@ class RetryQueueServiceTest {
         assertThat(result.get().callId()).isEqualTo(job.callId());
         assertThat(result.get().stage()).isEqualTo(JobStage.FORMATTER);
     }
+
+    @Test
+    void queueMetricsReportReadyDepthAndOldestReadyAge() {
+        Instant oldest = Instant.now().minusSeconds(90);
+        when(zSetOperations.count(eq("retry-test-queue"), eq(Double.NEGATIVE_INFINITY), anyDouble())).thenReturn(4L);
+        when(zSetOperations.zCard("retry-test-queue")).thenReturn(7L);
+        when(zSetOperations.rangeWithScores("retry-test-queue", 0, 0))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("job", (double) oldest.toEpochMilli())));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RetryQueueMetrics metrics = new RetryQueueMetrics(retryQueueService, meterRegistry);
+
+        metrics.refresh();
+
+        assertThat(meterRegistry.get("calls.retry.queue.ready").gauge().value()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("calls.retry.queue.scheduled").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("calls.retry.queue.oldest.ready.age").timeGauge().value(TimeUnit.SECONDS))
+                .isBetween(90.0, 95.0);
+    }
 }
@@ -0,0 +1,123 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.processing.model.JobStage;
+import com.somtranscriber.processing.model.PipelineStage;
+import com.somtranscriber.processing.service.PipelineObservations;
+import com.somtranscriber.processing.service.RetryJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryTracePropagationTest {
+
+    private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+    private SdkTracerProvider tracerProvider;
+    private ObservationRegistry observationRegistry;
+    private PipelineObservations observations;
+
+    @BeforeEach
+    void setUp() {
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new CollectingExporter()))
+                .build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+        OtelTracer tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> {
+        });
+        OtelPropagator propagator = new OtelPropagator(
+                ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler.FirstMatchingCompositeObservationHandler(
+                new PropagatingSenderTracingObservationHandler<>(tracer, propagator),
+                new PropagatingReceiverTracingObservationHandler<>(tracer, propagator),
+                new DefaultTracingObservationHandler(tracer)
+        ));
+        observations = new PipelineObservations(observationRegistry, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void retryJobCarriesTraceFromUploadToWorkerStages() {
+        AtomicReference<RetryJob> queued = new AtomicReference<>();
+        Observation.createNotStarted("http.server.requests", observationRegistry).observe(() ->
+                observations.enqueue(new RetryJob(UUID.randomUUID(), JobStage.FORMATTER, 2, Instant.now()), queued::set));
+
+        assertThat(queued.get().traceContext()).containsKey("traceparent");
+
+        observations.dequeued(queued.get(), () -> observations.start(PipelineStage.FORMAT, UUID.randomUUID(), "qwen2.5:3b").stop());
+
+        SpanData upload = span("http.server.requests");
+        SpanData enqueue = span("calls.retry.enqueue");
+        SpanData job = span("calls.retry.job");
+        SpanData format = span("calls.stage");
+        assertThat(List.of(enqueue, job, format))
+                .allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(upload.getTraceId()));
+        assertThat(enqueue.getParentSpanId()).isEqualTo(upload.getSpanId());
+        assertThat(job.getParentSpanId()).isEqualTo(enqueue.getSpanId());
+        assertThat(format.getParentSpanId()).isEqualTo(job.getSpanId());
+    }
+
+    @Test
+    void jobsQueuedWithoutTraceContextStartANewTrace() {
+        observations.dequeued(new RetryJob(UUID.randomUUID(), JobStage.TRANSCRIPTION, 1, Instant.now()), () -> {
+        });
+
+        assertThat(span("calls.retry.job").getParentSpanContext().isValid()).isFalse();
+    }
+
+    private SpanData span(String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans));
+    }
+
+    private class CollectingExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
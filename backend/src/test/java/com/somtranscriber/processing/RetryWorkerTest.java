@@ -1,19 +1,26 @@
 package com.somtranscriber.processing;
 
+import com.somtranscriber.config.AppProperties;
 import com.somtranscriber.processing.model.JobStage;
+import com.somtranscriber.processing.service.PipelineObservations;
 import com.somtranscriber.processing.service.ProcessingService;
 import com.somtranscriber.processing.service.RetryJob;
 import com.somtranscriber.processing.service.RetryQueueService;
 import com.somtranscriber.processing.service.RetryWorker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,9 +35,12 @@ class RetryWorkerTest {
     @Mock
     private ProcessingService processingService;
 
+    private final PipelineObservations observations =
+            new PipelineObservations(ObservationRegistry.NOOP, new SimpleMeterRegistry());
+
     @Test
     void pollAndProcessJobsStopsWhenQueueIsEmpty() {
-        RetryWorker retryWorker = new RetryWorker(retryQueueService, processingService);
+        RetryWorker retryWorker = new RetryWorker(retryQueueService, processingService, observations, Runnable::run, properties(5));
         when(retryQueueService.pollReadyJob()).thenReturn(Optional.empty());
 
         retryWorker.pollAndProcessJobs();
@@ -40,7 +50,7 @@ class RetryWorkerTest {
 
     @Test
     void pollAndProcessJobsProcessesMultipleJobsInBatch() {
-        RetryWorker retryWorker = new RetryWorker(retryQueueService, processingService);
+        RetryWorker retryWorker = new RetryWorker(retryQueueService, processingService, observations, Runnable::run, properties(5));
         RetryJob first = new RetryJob(UUID.randomUUID(), JobStage.TRANSCRIPTION, 1, Instant.now());
         RetryJob second = new RetryJob(UUID.randomUUID(), JobStage.FORMATTER, 2, Instant.now());
 
@@ -58,7 +68,7 @@ class RetryWorkerTest {
 
     @Test
     void pollAndProcessJobsContinuesAfterProcessingError() {
-        RetryWorker retryWorker = new RetryWorker(retryQueueService, processingService);
+        RetryWorker retryWorker = new RetryWorker(retryQueueService, processingService, observations, Runnable::run, properties(5));
         RetryJob failed = new RetryJob(UUID.randomUUID(), JobStage.FORMATTER, 1, Instant.now());
 
         when(retryQueueService.pollReadyJob())
@@ -71,4 +81,36 @@ class RetryWorkerTest {
         verify(processingService).processRetryJob(failed);
         verify(retryQueueService, times(2)).pollReadyJob();
     }
+
+    @Test
+    void pollAndProcessJobsKeepsInFlightJobsWithinConcurrency() {
+        List<Runnable> dispatched = new ArrayList<>();
+        RetryWorker retryWorker = new RetryWorker(retryQueueService, processingService, observations, dispatched::add, properties(2));
+        RetryJob first = new RetryJob(UUID.randomUUID(), JobStage.TRANSCRIPTION, 1, Instant.now());
+        RetryJob second = new RetryJob(UUID.randomUUID(), JobStage.TRANSCRIPTION, 1, Instant.now());
+        RetryJob third = new RetryJob(UUID.randomUUID(), JobStage.FORMATTER, 1, Instant.now());
+
+        when(retryQueueService.pollReadyJob())
+                .thenReturn(Optional.of(first))
+                .thenReturn(Optional.of(second))
+                .thenReturn(Optional.of(third))
+                .thenReturn(Optional.empty());
+
+        retryWorker.pollAndProcessJobs();
+        assertThat(dispatched).hasSize(2);
+        verify(retryQueueService, times(2)).pollReadyJob();
+
+        dispatched.get(0).run();
+        retryWorker.pollAndProcessJobs();
+
+        assertThat(dispatched).hasSize(3);
+        verify(processingService).processRetryJob(first);
+        verify(retryQueueService, times(3)).pollReadyJob();
+    }
+
+    private static AppProperties properties(int concurrency) {
+        return new AppProperties(null, null, null, null,
+                new AppProperties.Retry("queue", 3, false, new AppProperties.Retry.Worker(true, 2000, concurrency)),
+                null);
+    }
 }
@@ -0,0 +1,147 @@
+package com.somtranscriber.processing;
+
+import com.somtranscriber.calls.model.CallRecordEntity;
+import com.somtranscriber.calls.model.CallStatus;
+import com.somtranscriber.common.exception.ServiceUnavailableException;
+import com.somtranscriber.config.UploadPipelineProperties;
+import com.somtranscriber.processing.service.Deadline;
+import com.somtranscriber.processing.service.ProcessingService;
+import com.somtranscriber.processing.service.UploadPipeline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UploadPipelineTest {
+
+    private static final MockMultipartFile FILE =
+            new MockMultipartFile("file", "call.m4a", "audio/mpeg", "audio".getBytes());
+
+    @Mock
+    private ProcessingService processingService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private UploadPipeline pipeline;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    void queuedUploadsCompleteWithoutRunningThePipeline() {
+        pipeline = createPipeline(2, 4, Duration.ofSeconds(5));
+        CallRecordEntity uploaded = call(CallStatus.UPLOADED);
+        when(processingService.acceptUpload(any(), any(), anyInt()))
+                .thenReturn(new ProcessingService.AcceptedUpload(uploaded, false, Deadline.none()));
+
+        CompletableFuture<CallRecordEntity> result = pipeline.processUpload(uploaded, FILE, 30);
+
+        assertThat(result).isCompletedWithValue(uploaded);
+        verify(processingService, never()).processTranscriptionAndFormatting(any(), eq(true), any());
+    }
+
+    @Test
+    void inlineUploadsRunOnThePipelineExecutor() {
+        pipeline = createPipeline(2, 4, Duration.ofSeconds(5));
+        CallRecordEntity uploaded = call(CallStatus.UPLOADED);
+        CallRecordEntity ready = call(CallStatus.READY);
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(processingService.acceptUpload(any(), any(), anyInt()))
+                .thenReturn(new ProcessingService.AcceptedUpload(uploaded, true, Deadline.none()));
+        when(processingService.processTranscriptionAndFormatting(uploaded.getId(), true, Deadline.none())).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return ready;
+        });
+
+        CallRecordEntity result = pipeline.processUpload(uploaded, FILE, 30).join();
+
+        assertThat(result).isSameAs(ready);
+        assertThat(thread.get()).startsWith("upload-pipeline-");
+    }
+
+    @Test
+    void uploadsPastTheDeadlineReturnCurrentStatusWhileThePipelineFinishes() {
+        pipeline = createPipeline(2, 4, Duration.ofMillis(50));
+        CallRecordEntity uploaded = call(CallStatus.UPLOADED);
+        when(processingService.acceptUpload(any(), any(), anyInt()))
+                .thenReturn(new ProcessingService.AcceptedUpload(uploaded, true, Deadline.none()));
+        when(processingService.processTranscriptionAndFormatting(uploaded.getId(), true, Deadline.none())).thenAnswer(invocation -> {
+            release.await();
+            return call(CallStatus.READY);
+        });
+
+        CallRecordEntity result = pipeline.processUpload(uploaded, FILE, 30).join();
+
+        assertThat(result.getStatus()).isEqualTo(CallStatus.UPLOADED);
+        assertThat(meterRegistry.counter("calls.upload.deadline.exceeded.total").count()).isEqualTo(1.0);
+        release.countDown();
+        verify(processingService, timeout(1000)).processTranscriptionAndFormatting(uploaded.getId(), true, Deadline.none());
+    }
+
+    @Test
+    void saturatedExecutorFallsBackToTheRetryQueue() throws InterruptedException {
+        pipeline = createPipeline(1, 1, Duration.ofSeconds(5));
+        CountDownLatch running = new CountDownLatch(1);
+        when(processingService.acceptUpload(any(), any(), anyInt())).thenAnswer(invocation ->
+                new ProcessingService.AcceptedUpload(invocation.getArgument(0), true, Deadline.none()));
+        when(processingService.processTranscriptionAndFormatting(any(), eq(true), any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return call(CallStatus.READY);
+        });
+        pipeline.processUpload(call(CallStatus.UPLOADED), FILE, 30);
+        assertThat(running.await(2, TimeUnit.SECONDS)).isTrue();
+        pipeline.processUpload(call(CallStatus.UPLOADED), FILE, 30);
+
+        CallRecordEntity queued = call(CallStatus.UPLOADED);
+        CallRecordEntity rejected = call(CallStatus.UPLOADED);
+        when(processingService.scheduleTranscription(queued.getId())).thenReturn(true);
+        when(processingService.scheduleTranscription(rejected.getId())).thenReturn(false);
+
+        assertThat(pipeline.processUpload(queued, FILE, 30)).isCompletedWithValue(queued);
+        assertThatThrownBy(() -> pipeline.processUpload(rejected, FILE, 30))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("calls.upload.rejected.total").count()).isEqualTo(2.0);
+    }
+
+    private UploadPipeline createPipeline(int threads, int queueCapacity, Duration deadline) {
+        return new UploadPipeline(
+                processingService,
+                new UploadPipelineProperties(threads, queueCapacity, deadline),
+                meterRegistry
+        );
+    }
+
+    private static CallRecordEntity call(CallStatus status) {
+        CallRecordEntity call = new CallRecordEntity();
+        call.setId(UUID.randomUUID());
+        call.setStatus(status);
+        return call;
+    }
+}